@@ -0,0 +1,52 @@
+package io.github.uchagani.playwright.assertions;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.opentest4j.AssertionFailedError;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of building the {@link SoftAssertions#assertAll()} report. The failures are added directly to the collector,
+ * so no browser is needed.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class AssertAllBenchmark {
+    @Param({"1", "100", "10000"})
+    int failures;
+
+    private SoftAssertionsImpl softly;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        softly = (SoftAssertionsImpl) SoftAssertions.create();
+        for (int i = 0; i < failures; i++) {
+            softly.results.add(new AssertionFailedError("Locator expected to have text: expected " + i + "\nReceived: actual " + i));
+        }
+    }
+
+    @Benchmark
+    public Object assertAll() {
+        try {
+            softly.assertAll();
+            return null;
+        } catch (AssertionFailedError e) {
+            return e;
+        }
+    }
+}
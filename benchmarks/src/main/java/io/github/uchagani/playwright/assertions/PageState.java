@@ -0,0 +1,38 @@
+package io.github.uchagani.playwright.assertions;
+
+import com.microsoft.playwright.Browser;
+import com.microsoft.playwright.Locator;
+import com.microsoft.playwright.Page;
+import com.microsoft.playwright.Playwright;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * A local page created with {@code setContent}, so the benchmarks run without network access.
+ */
+@State(Scope.Thread)
+public class PageState {
+    static final String CONTENT = "<title>Benchmark</title><div id=node>Text content</div><button id=button>Click</button>";
+
+    Playwright playwright;
+    Browser browser;
+    Page page;
+    Locator node;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        playwright = Playwright.create();
+        browser = playwright.chromium().launch();
+        page = browser.newPage();
+        page.setContent(CONTENT);
+        node = page.locator("#node");
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        playwright.close();
+    }
+}
@@ -0,0 +1,53 @@
+package io.github.uchagani.playwright.assertions;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares calling {@code assertThat} repeatedly on the same locator, which reuses the cached proxy, with creating a
+ * new proxy every time. Run with {@code -prof gc} to see the allocation rate.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class ProxyReuseBenchmark {
+    private SoftAssertionsImpl softly;
+
+    @Setup
+    public void setUp() {
+        softly = (SoftAssertionsImpl) SoftAssertions.create();
+    }
+
+    @Benchmark
+    public Object reusedProxy(PageState state) {
+        return softly.assertThat(state.node);
+    }
+
+    @Benchmark
+    public Object newProxy(PageState state) {
+        return new LocatorAssertionsImplProxy(state.node, softly);
+    }
+
+    @Benchmark
+    public Object reusedNegatedProxy(PageState state) {
+        return softly.assertThat(state.node).not();
+    }
+
+    @Benchmark
+    public Object newNegatedProxy(PageState state) {
+        return new LocatorAssertionsImplProxy(state.node, softly).not();
+    }
+}
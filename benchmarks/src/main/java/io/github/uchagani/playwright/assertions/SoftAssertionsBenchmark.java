@@ -0,0 +1,77 @@
+package io.github.uchagani.playwright.assertions;
+
+import com.microsoft.playwright.assertions.LocatorAssertions;
+import com.microsoft.playwright.assertions.PlaywrightAssertions;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares assertions made through {@link SoftAssertions} with the same assertions made directly through
+ * {@link PlaywrightAssertions}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SoftAssertionsBenchmark {
+    private static final LocatorAssertions.HasTextOptions FAST_FAILURE = new LocatorAssertions.HasTextOptions().setTimeout(1);
+
+    @Benchmark
+    public Object createProxy(PageState state) {
+        return SoftAssertions.create().assertThat(state.node);
+    }
+
+    @Benchmark
+    public Object createNegatedProxy(PageState state) {
+        return SoftAssertions.create().assertThat(state.node).not();
+    }
+
+    @Benchmark
+    public void playwrightPassing(PageState state) {
+        PlaywrightAssertions.assertThat(state.node).hasText("Text content");
+    }
+
+    @Benchmark
+    public Object softPassing(PageState state) {
+        SoftAssertions softly = SoftAssertions.create();
+        softly.assertThat(state.node).hasText("Text content");
+        return softly;
+    }
+
+    @Benchmark
+    public void playwrightPassingNot(PageState state) {
+        PlaywrightAssertions.assertThat(state.node).not().hasText("foo");
+    }
+
+    @Benchmark
+    public Object softPassingNot(PageState state) {
+        SoftAssertions softly = SoftAssertions.create();
+        softly.assertThat(state.node).not().hasText("foo");
+        return softly;
+    }
+
+    @Benchmark
+    public Object playwrightFailing(PageState state) {
+        try {
+            PlaywrightAssertions.assertThat(state.node).hasText("foo", FAST_FAILURE);
+            return null;
+        } catch (AssertionError e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public Object softFailing(PageState state) {
+        SoftAssertions softly = SoftAssertions.create();
+        softly.assertThat(state.node).hasText("foo", FAST_FAILURE);
+        return softly;
+    }
+}
@@ -1,30 +1,146 @@
 package io.github.uchagani.playwright.assertions;
 
+import com.google.gson.Gson;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonParseException;
+import com.google.gson.JsonParser;
 import com.microsoft.playwright.APIResponse;
-import com.microsoft.playwright.assertions.APIResponseAssertions;
 import com.microsoft.playwright.impl.APIResponseAssertionsImpl;
+import org.opentest4j.AssertionFailedError;
 
 import java.util.List;
+import java.util.Locale;
+import java.util.function.Predicate;
+
+class APIResponseAssertionsImplProxy extends SoftAssertionsBase implements SoftAPIResponseAssertions {
+    private static final Gson GSON = new Gson();
 
-class APIResponseAssertionsImplProxy extends SoftAssertionsBase implements APIResponseAssertions {
     private final APIResponseAssertionsImpl assertions;
+    private volatile APIResponseAssertionsImplProxy negation;
 
-    APIResponseAssertionsImplProxy(APIResponse response, List<Throwable> results) {
-        this(results, new APIResponseAssertionsImpl(response));
+    APIResponseAssertionsImplProxy(APIResponse response, SoftAssertionsImpl softly) {
+        this(softly, response, false, new APIResponseAssertionsImpl(response));
     }
 
-    private APIResponseAssertionsImplProxy(List<Throwable> results, APIResponseAssertionsImpl assertions) {
-        super(results);
+    private APIResponseAssertionsImplProxy(SoftAssertionsImpl softly, APIResponse response, boolean negated, APIResponseAssertionsImpl assertions) {
+        super(softly, response, negated);
         this.assertions = assertions;
     }
 
     @Override
-    public APIResponseAssertions not() {
-        return new APIResponseAssertionsImplProxy(super.results, (APIResponseAssertionsImpl) assertions.not());
+    public SoftAPIResponseAssertions not() {
+        APIResponseAssertionsImplProxy not = negation;
+        if (not == null) {
+            not = new APIResponseAssertionsImplProxy(super.softly, (APIResponse) target, !negated, (APIResponseAssertionsImpl) assertions.not());
+            not.negation = this;
+            negation = not;
+        }
+        return not;
     }
 
     @Override
     public void isOK() {
-        assertAndCaptureResult(assertions::isOK);
+        assertAndCaptureResult("isOK", assertions::isOK);
+    }
+
+    @Override
+    public void hasStatus(int status) {
+        assertAndCaptureResult("hasStatus", () -> {
+            int actual = response().status();
+            expect(actual == status, "Response status " + expected() + " " + status + ", was " + actual, status, actual);
+        });
+    }
+
+    @Override
+    public void hasHeader(String name) {
+        assertAndCaptureResult("hasHeader", () -> {
+            String actual = header(name);
+            expect(actual != null, "Response header \"" + name + "\" " + expected() + " present", null, actual);
+        });
+    }
+
+    @Override
+    public void hasHeader(String name, String value) {
+        assertAndCaptureResult("hasHeader", () -> {
+            String actual = header(name);
+            expect(value.equals(actual), "Response header \"" + name + "\" " + expected() + " \"" + value + "\", was "
+                    + (actual == null ? "missing" : "\"" + actual + "\""), value, actual);
+        });
+    }
+
+    @Override
+    public void containsText(String text) {
+        assertAndCaptureResult("containsText", () -> {
+            String actual = softly.responseBodies.text(response());
+            expect(actual.contains(text), "Response body " + (negated ? "expected not to contain" : "expected to contain")
+                    + " \"" + text + "\"", text, actual);
+        });
+    }
+
+    @Override
+    public void hasJsonValue(String path, Object expected) {
+        JsonPath jsonPath = JsonPath.parse(path);
+        JsonElement expectedJson = GSON.toJsonTree(expected);
+        assertAndCaptureResult("hasJsonValue", () -> {
+            JsonElement value = jsonPath.find(json());
+            if (value == null) {
+                expect(false, "Response JSON has no value at " + jsonPath, expectedJson.toString(), null);
+                return;
+            }
+            expect(expectedJson.equals(value), "Response JSON at " + jsonPath + " " + expected() + " " + expectedJson
+                    + ", was " + value, expectedJson.toString(), value.toString());
+        });
+    }
+
+    @Override
+    public void hasJsonPath(String path, Predicate<Object> matcher) {
+        JsonPath jsonPath = JsonPath.parse(path);
+        assertAndCaptureResult("hasJsonPath", () -> {
+            JsonElement value = jsonPath.find(json());
+            if (value == null) {
+                expect(false, "Response JSON has no value at " + jsonPath, null, null);
+                return;
+            }
+            expect(matcher.test(JsonValues.toJava(value)),
+                    "Response JSON at " + jsonPath + " " + (negated ? "expected not to match" : "did not match")
+                            + ", was " + value, null, value.toString());
+        });
+    }
+
+    @Override
+    public void matchesJsonSchema(String schema) {
+        JsonElement parsedSchema = JsonParser.parseString(schema);
+        assertAndCaptureResult("matchesJsonSchema", () -> {
+            List<String> errors = JsonSchema.validate(parsedSchema, json());
+            expect(errors.isEmpty(), negated
+                    ? "Response JSON expected not to match the schema"
+                    : "Response JSON does not match the schema:\n  " + String.join("\n  ", errors), null, null);
+        });
+    }
+
+    private APIResponse response() {
+        return (APIResponse) target;
+    }
+
+    private String header(String name) {
+        return response().headers().get(name.toLowerCase(Locale.ROOT));
+    }
+
+    private JsonElement json() {
+        try {
+            return softly.responseBodies.json(response());
+        } catch (JsonParseException e) {
+            throw new AssertionFailedError("Response body is not valid JSON: " + e.getMessage(), e);
+        }
+    }
+
+    private String expected() {
+        return negated ? "expected not to be" : "expected to be";
+    }
+
+    private void expect(boolean matches, String message, Object expected, Object actual) {
+        if (matches == negated) {
+            throw new AssertionFailedError(message, expected, actual);
+        }
     }
 }
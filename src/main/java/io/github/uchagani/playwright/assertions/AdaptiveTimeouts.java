@@ -0,0 +1,54 @@
+package io.github.uchagani.playwright.assertions;
+
+import com.microsoft.playwright.Locator;
+import com.microsoft.playwright.Page;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * Shortens the timeout of assertions on a page after assertions on that page have failed. When one expectation on a
+ * page times out the others usually do too, so every failure in a row halves the timeout of the next assertion on
+ * the same page, down to {@link #MIN_TIMEOUT}. A passing assertion restores the full timeout.
+ */
+class AdaptiveTimeouts {
+    static final double MIN_TIMEOUT = 100;
+
+    private final Map<Page, Integer> failuresInARow = Collections.synchronizedMap(new WeakHashMap<>());
+
+    static Page pageOf(Object target) {
+        if (target instanceof Locator) {
+            return ((Locator) target).page();
+        }
+        if (target instanceof Page) {
+            return (Page) target;
+        }
+        // An APIResponse is not tied to a page.
+        return null;
+    }
+
+    double timeoutFor(Page page, double timeout) {
+        Integer failures = failuresInARow.get(page);
+        if (failures == null) {
+            return timeout;
+        }
+        if (timeout == 0) {
+            timeout = Timeouts.defaultAssertionTimeout();
+        }
+        double reduced = timeout / Math.pow(2, failures);
+        return Math.max(reduced, Math.min(timeout, MIN_TIMEOUT));
+    }
+
+    void passed(Page page) {
+        failuresInARow.remove(page);
+    }
+
+    void failed(Page page) {
+        failuresInARow.merge(page, 1, Integer::sum);
+    }
+
+    static String note(double timeout) {
+        return "(ran with a timeout reduced to " + Math.round(timeout) + "ms after earlier failures on the same page)";
+    }
+}
@@ -0,0 +1,94 @@
+package io.github.uchagani.playwright.assertions;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.ServiceLoader;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+
+/**
+ * Dispatches assertion events to the configured {@link SoftAssertionListener}s and those found through
+ * {@link ServiceLoader}. Callers check {@link #enabled()} before building an event so nothing is allocated when no
+ * listener is registered.
+ */
+final class AssertionEvents {
+    private final SoftAssertionListener[] listeners;
+    private final Executor async;
+
+    AssertionEvents(List<SoftAssertionListener> configured, boolean async) {
+        List<SoftAssertionListener> all = new ArrayList<>(ServiceListeners.LOADED);
+        if (configured != null) {
+            all.addAll(configured);
+        }
+        this.listeners = all.toArray(new SoftAssertionListener[0]);
+        this.async = async && !all.isEmpty() ? AsyncDispatch.EXECUTOR : null;
+    }
+
+    boolean enabled() {
+        return listeners.length > 0;
+    }
+
+    void started(String method, Object target, boolean negated) {
+        if (listeners.length == 0) {
+            return;
+        }
+        dispatch(() -> {
+            for (SoftAssertionListener listener : listeners) {
+                listener.assertionStarted(method, target, negated);
+            }
+        });
+    }
+
+    void completed(AssertionRecord record, Throwable failure) {
+        dispatch(() -> {
+            if (failure != null) {
+                for (SoftAssertionListener listener : listeners) {
+                    listener.assertionFailed(record, failure);
+                }
+            }
+            for (SoftAssertionListener listener : listeners) {
+                listener.assertionCompleted(record);
+            }
+        });
+    }
+
+    /**
+     * Waits until the events dispatched so far have been delivered.
+     */
+    void flush() {
+        if (async != null) {
+            CompletableFuture.runAsync(() -> {
+            }, async).join();
+        }
+    }
+
+    private void dispatch(Runnable event) {
+        if (async == null) {
+            event.run();
+        } else {
+            async.execute(event);
+        }
+    }
+
+    private static class ServiceListeners {
+        static final List<SoftAssertionListener> LOADED = load();
+
+        private static List<SoftAssertionListener> load() {
+            List<SoftAssertionListener> loaded = new ArrayList<>();
+            for (SoftAssertionListener listener : ServiceLoader.load(SoftAssertionListener.class)) {
+                loaded.add(listener);
+            }
+            return loaded;
+        }
+    }
+
+    private static class AsyncDispatch {
+        // A single thread keeps the events of each assertion, and of all assertions, in order.
+        static final Executor EXECUTOR = Executors.newSingleThreadExecutor(task -> {
+            Thread thread = new Thread(task, "soft-assertions-listeners");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+}
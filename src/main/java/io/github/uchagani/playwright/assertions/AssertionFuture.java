@@ -0,0 +1,141 @@
+package io.github.uchagani.playwright.assertions;
+
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * The outcome of an {@link AsyncSoftAssertions async} soft assertion, or a value derived from such outcomes.
+ * <p>
+ * Async assertions are only checked in the background while the test makes Playwright calls, so unlike a
+ * {@code CompletableFuture}, waiting for an {@code AssertionFuture} checks the outstanding assertions it depends on, on
+ * the waiting thread, until it completes.
+ * This holds for {@link #join()}, both {@code get} methods and {@link #getNow}, which checks once without waiting, and
+ * for the futures returned by {@link #thenApply}, {@link #thenAccept} and {@link #allOf}. Functions passed to
+ * {@code thenApply} and {@code thenAccept} run on the thread whose check completes the assertion.
+ */
+public final class AssertionFuture<T> implements Future<T> {
+    private final CompletableFuture<T> result;
+    // The async assertions whose checks complete the result.
+    private final Set<AsyncSoftAssertionsImpl> sources;
+
+    AssertionFuture(CompletableFuture<T> result, Set<AsyncSoftAssertionsImpl> sources) {
+        this.result = result;
+        this.sources = sources;
+    }
+
+    static <T> AssertionFuture<T> completed(T value) {
+        return new AssertionFuture<>(CompletableFuture.completedFuture(value), Collections.emptySet());
+    }
+
+    /**
+     * Returns a future that completes once all of {@code futures} have completed.
+     */
+    public static AssertionFuture<Void> allOf(AssertionFuture<?>... futures) {
+        CompletableFuture<?>[] results = new CompletableFuture<?>[futures.length];
+        Set<AsyncSoftAssertionsImpl> sources = new LinkedHashSet<>();
+        for (int i = 0; i < futures.length; i++) {
+            results[i] = futures[i].result;
+            sources.addAll(futures[i].sources);
+        }
+        return new AssertionFuture<>(CompletableFuture.allOf(results), sources);
+    }
+
+    public <U> AssertionFuture<U> thenApply(Function<? super T, ? extends U> function) {
+        return new AssertionFuture<>(result.thenApply(function), sources);
+    }
+
+    public AssertionFuture<Void> thenAccept(Consumer<? super T> action) {
+        return new AssertionFuture<>(result.thenAccept(action), sources);
+    }
+
+    /**
+     * Checks the outstanding assertions until this future completes and returns its value. Throws a
+     * {@link java.util.concurrent.CompletionException} if it completed exceptionally.
+     */
+    public T join() {
+        await(false, 0);
+        return result.join();
+    }
+
+    @Override
+    public T get() throws InterruptedException, ExecutionException {
+        await(false, 0);
+        return result.get();
+    }
+
+    @Override
+    public T get(long timeout, TimeUnit unit) throws InterruptedException, ExecutionException, TimeoutException {
+        if (!await(true, System.nanoTime() + unit.toNanos(timeout))) {
+            throw new TimeoutException();
+        }
+        return result.get();
+    }
+
+    /**
+     * Checks the outstanding assertions once, without waiting, and returns the value of this future if it completed,
+     * otherwise {@code valueIfAbsent}.
+     */
+    public T getNow(T valueIfAbsent) {
+        if (!result.isDone()) {
+            poll();
+        }
+        return result.getNow(valueIfAbsent);
+    }
+
+    @Override
+    public boolean isDone() {
+        return result.isDone();
+    }
+
+    /**
+     * Async assertions cannot be cancelled, always returns {@code false}.
+     */
+    @Override
+    public boolean cancel(boolean mayInterruptIfRunning) {
+        return false;
+    }
+
+    @Override
+    public boolean isCancelled() {
+        return false;
+    }
+
+    /**
+     * Checks the outstanding assertions until this future completes or, if {@code timed}, until {@code deadline}.
+     * Returns whether it completed.
+     */
+    private boolean await(boolean timed, long deadline) {
+        if (sources.isEmpty()) {
+            return result.isDone();
+        }
+        for (int rounds = 1; ; rounds++) {
+            poll();
+            if (result.isDone()) {
+                return true;
+            }
+            if (!timed) {
+                sources.iterator().next().softly.polling.waitForNextCheck(null, rounds);
+                continue;
+            }
+            long remaining = deadline - System.nanoTime();
+            if (remaining <= 0) {
+                return false;
+            }
+            PollingStrategies.sleep(Math.min(DeferredAssertions.POLL_INTERVAL_MILLIS, remaining / 1_000_000.0));
+        }
+    }
+
+    private void poll() {
+        for (AsyncSoftAssertionsImpl source : sources) {
+            source.poll();
+        }
+    }
+}
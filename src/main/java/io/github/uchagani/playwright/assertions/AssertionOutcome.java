@@ -0,0 +1,39 @@
+package io.github.uchagani.playwright.assertions;
+
+/**
+ * How an {@link AsyncSoftAssertions async} soft assertion ended. A failure is also collected like any other soft
+ * assertion failure and reported by {@link SoftAssertions#assertAll()}.
+ */
+public final class AssertionOutcome {
+    private final AssertionRecord record;
+    private final Throwable failure;
+
+    AssertionOutcome(AssertionRecord record, Throwable failure) {
+        this.record = record;
+        this.failure = failure;
+    }
+
+    public AssertionRecord record() {
+        return record;
+    }
+
+    public AssertionRecord.Outcome outcome() {
+        return record.outcome();
+    }
+
+    public boolean passed() {
+        return record.outcome() == AssertionRecord.Outcome.PASSED;
+    }
+
+    /**
+     * The failure of the assertion, or {@code null} if it did not fail.
+     */
+    public Throwable failure() {
+        return failure;
+    }
+
+    @Override
+    public String toString() {
+        return record.toString();
+    }
+}
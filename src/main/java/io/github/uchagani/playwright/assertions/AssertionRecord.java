@@ -0,0 +1,142 @@
+package io.github.uchagani.playwright.assertions;
+
+import com.microsoft.playwright.APIResponse;
+import com.microsoft.playwright.Locator;
+import com.microsoft.playwright.Page;
+
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * What a single soft assertion checked, how long it took and how it ended.
+ */
+public final class AssertionRecord {
+    public enum Outcome {
+        PASSED,
+        FAILED,
+        /**
+         * Not run because the {@link SoftAssertions.CreateOptions#maxFailures failure limit} had been reached.
+         */
+        SKIPPED,
+        /**
+         * Not run because an identical assertion passed within the
+         * {@link SoftAssertions.CreateOptions#deduplicationWindow deduplication window}.
+         */
+        REUSED
+    }
+
+    /**
+     * What an assertion was made on.
+     */
+    public enum TargetKind {
+        LOCATOR,
+        PAGE,
+        RESPONSE,
+        OTHER
+    }
+
+    private final String method;
+    private final String target;
+    private final TargetKind targetKind;
+    private final boolean negated;
+    private final Instant startTime;
+    private final Duration duration;
+    private final int attempts;
+    private final Outcome outcome;
+
+    AssertionRecord(String method, Object target, boolean negated, Instant startTime, Duration duration, int attempts,
+                    Outcome outcome) {
+        this.method = method;
+        this.target = describe(target);
+        this.targetKind = kindOf(target);
+        this.negated = negated;
+        this.startTime = startTime;
+        this.duration = duration;
+        this.attempts = attempts;
+        this.outcome = outcome;
+    }
+
+    /**
+     * Name of the assertion method, e.g. {@code hasText}.
+     */
+    public String method() {
+        return method;
+    }
+
+    /**
+     * The selector of a locator, the URL of a page or the URL of an API response.
+     */
+    public String target() {
+        return target;
+    }
+
+    /**
+     * Whether the assertion was made on a locator, a page or an API response. Unlike {@link #target()}, takes one of
+     * a few values only.
+     */
+    public TargetKind targetKind() {
+        return targetKind;
+    }
+
+    /**
+     * Whether the assertion was made through {@code not()}.
+     */
+    public boolean negated() {
+        return negated;
+    }
+
+    public Instant startTime() {
+        return startTime;
+    }
+
+    /**
+     * Wall-clock time from the start of the assertion until its outcome was known.
+     */
+    public Duration duration() {
+        return duration;
+    }
+
+    /**
+     * Number of times the assertion was sent to Playwright: 1 for a regular assertion, one per poll for a deferred
+     * assertion and 0 for a skipped one. Playwright's own retries within one attempt are not visible.
+     */
+    public int attempts() {
+        return attempts;
+    }
+
+    public Outcome outcome() {
+        return outcome;
+    }
+
+    @Override
+    public String toString() {
+        return (negated ? "not()." : "") + method + " on " + target + ": " + outcome + " in " + duration.toMillis() + "ms"
+                + " (" + attempts + " attempt(s))";
+    }
+
+    private static TargetKind kindOf(Object target) {
+        if (target instanceof Locator) {
+            return TargetKind.LOCATOR;
+        }
+        if (target instanceof Page) {
+            return TargetKind.PAGE;
+        }
+        if (target instanceof APIResponse) {
+            return TargetKind.RESPONSE;
+        }
+        return TargetKind.OTHER;
+    }
+
+    static String describe(Object target) {
+        if (target instanceof Locator) {
+            return Locators.selector((Locator) target);
+        }
+        if (target instanceof Page) {
+            return ((Page) target).url();
+        }
+        if (target instanceof APIResponse) {
+            return ((APIResponse) target).url();
+        }
+        return String.valueOf(target);
+    }
+}
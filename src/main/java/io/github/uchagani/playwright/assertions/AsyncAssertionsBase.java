@@ -0,0 +1,24 @@
+package io.github.uchagani.playwright.assertions;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+class AsyncAssertionsBase extends SoftAssertionsBase {
+    final AsyncSoftAssertionsImpl async;
+
+    AsyncAssertionsBase(AsyncSoftAssertionsImpl async, Object target, boolean negated) {
+        super(async.softly, target, negated);
+        this.async = async;
+    }
+
+    <T> AssertionFuture<AssertionOutcome> register(String method, T options, Supplier<T> optionsFactory,
+                                                   Consumer<T> assertion, Object... expected) {
+        if (skip(method)) {
+            return AssertionFuture.completed(new AssertionOutcome(new AssertionRecord(method, target, negated,
+                    Instant.now(), Duration.ZERO, 0, AssertionRecord.Outcome.SKIPPED), null));
+        }
+        return async.add(Expectation.of(target, negated, method, expected, options, optionsFactory, assertion));
+    }
+}
@@ -0,0 +1,220 @@
+package io.github.uchagani.playwright.assertions;
+
+import com.microsoft.playwright.assertions.LocatorAssertions;
+
+import java.util.regex.Pattern;
+
+/**
+ * The assertions of {@link LocatorAssertions}, each returning the future of its outcome. See
+ * {@link AsyncSoftAssertions}.
+ */
+public interface AsyncLocatorAssertions {
+    AsyncLocatorAssertions not();
+
+    default AssertionFuture<AssertionOutcome> isAttached() {
+        return isAttached(null);
+    }
+
+    AssertionFuture<AssertionOutcome> isAttached(LocatorAssertions.IsAttachedOptions options);
+
+    default AssertionFuture<AssertionOutcome> isChecked() {
+        return isChecked(null);
+    }
+
+    AssertionFuture<AssertionOutcome> isChecked(LocatorAssertions.IsCheckedOptions options);
+
+    default AssertionFuture<AssertionOutcome> isDisabled() {
+        return isDisabled(null);
+    }
+
+    AssertionFuture<AssertionOutcome> isDisabled(LocatorAssertions.IsDisabledOptions options);
+
+    default AssertionFuture<AssertionOutcome> isEditable() {
+        return isEditable(null);
+    }
+
+    AssertionFuture<AssertionOutcome> isEditable(LocatorAssertions.IsEditableOptions options);
+
+    default AssertionFuture<AssertionOutcome> isEmpty() {
+        return isEmpty(null);
+    }
+
+    AssertionFuture<AssertionOutcome> isEmpty(LocatorAssertions.IsEmptyOptions options);
+
+    default AssertionFuture<AssertionOutcome> isEnabled() {
+        return isEnabled(null);
+    }
+
+    AssertionFuture<AssertionOutcome> isEnabled(LocatorAssertions.IsEnabledOptions options);
+
+    default AssertionFuture<AssertionOutcome> isFocused() {
+        return isFocused(null);
+    }
+
+    AssertionFuture<AssertionOutcome> isFocused(LocatorAssertions.IsFocusedOptions options);
+
+    default AssertionFuture<AssertionOutcome> isHidden() {
+        return isHidden(null);
+    }
+
+    AssertionFuture<AssertionOutcome> isHidden(LocatorAssertions.IsHiddenOptions options);
+
+    default AssertionFuture<AssertionOutcome> isInViewport() {
+        return isInViewport(null);
+    }
+
+    AssertionFuture<AssertionOutcome> isInViewport(LocatorAssertions.IsInViewportOptions options);
+
+    default AssertionFuture<AssertionOutcome> isVisible() {
+        return isVisible(null);
+    }
+
+    AssertionFuture<AssertionOutcome> isVisible(LocatorAssertions.IsVisibleOptions options);
+
+    default AssertionFuture<AssertionOutcome> containsText(String expected) {
+        return containsText(expected, null);
+    }
+
+    AssertionFuture<AssertionOutcome> containsText(String expected, LocatorAssertions.ContainsTextOptions options);
+
+    default AssertionFuture<AssertionOutcome> containsText(Pattern expected) {
+        return containsText(expected, null);
+    }
+
+    AssertionFuture<AssertionOutcome> containsText(Pattern expected, LocatorAssertions.ContainsTextOptions options);
+
+    default AssertionFuture<AssertionOutcome> containsText(String[] expected) {
+        return containsText(expected, null);
+    }
+
+    AssertionFuture<AssertionOutcome> containsText(String[] expected, LocatorAssertions.ContainsTextOptions options);
+
+    default AssertionFuture<AssertionOutcome> containsText(Pattern[] expected) {
+        return containsText(expected, null);
+    }
+
+    AssertionFuture<AssertionOutcome> containsText(Pattern[] expected, LocatorAssertions.ContainsTextOptions options);
+
+    default AssertionFuture<AssertionOutcome> hasAttribute(String name, String value) {
+        return hasAttribute(name, value, null);
+    }
+
+    AssertionFuture<AssertionOutcome> hasAttribute(String name, String value,
+                                                   LocatorAssertions.HasAttributeOptions options);
+
+    default AssertionFuture<AssertionOutcome> hasAttribute(String name, Pattern value) {
+        return hasAttribute(name, value, null);
+    }
+
+    AssertionFuture<AssertionOutcome> hasAttribute(String name, Pattern value,
+                                                   LocatorAssertions.HasAttributeOptions options);
+
+    default AssertionFuture<AssertionOutcome> hasClass(String expected) {
+        return hasClass(expected, null);
+    }
+
+    AssertionFuture<AssertionOutcome> hasClass(String expected, LocatorAssertions.HasClassOptions options);
+
+    default AssertionFuture<AssertionOutcome> hasClass(Pattern expected) {
+        return hasClass(expected, null);
+    }
+
+    AssertionFuture<AssertionOutcome> hasClass(Pattern expected, LocatorAssertions.HasClassOptions options);
+
+    default AssertionFuture<AssertionOutcome> hasClass(String[] expected) {
+        return hasClass(expected, null);
+    }
+
+    AssertionFuture<AssertionOutcome> hasClass(String[] expected, LocatorAssertions.HasClassOptions options);
+
+    default AssertionFuture<AssertionOutcome> hasClass(Pattern[] expected) {
+        return hasClass(expected, null);
+    }
+
+    AssertionFuture<AssertionOutcome> hasClass(Pattern[] expected, LocatorAssertions.HasClassOptions options);
+
+    default AssertionFuture<AssertionOutcome> hasCount(int count) {
+        return hasCount(count, null);
+    }
+
+    AssertionFuture<AssertionOutcome> hasCount(int count, LocatorAssertions.HasCountOptions options);
+
+    default AssertionFuture<AssertionOutcome> hasCSS(String name, String value) {
+        return hasCSS(name, value, null);
+    }
+
+    AssertionFuture<AssertionOutcome> hasCSS(String name, String value, LocatorAssertions.HasCSSOptions options);
+
+    default AssertionFuture<AssertionOutcome> hasCSS(String name, Pattern value) {
+        return hasCSS(name, value, null);
+    }
+
+    AssertionFuture<AssertionOutcome> hasCSS(String name, Pattern value, LocatorAssertions.HasCSSOptions options);
+
+    default AssertionFuture<AssertionOutcome> hasId(String id) {
+        return hasId(id, null);
+    }
+
+    AssertionFuture<AssertionOutcome> hasId(String id, LocatorAssertions.HasIdOptions options);
+
+    default AssertionFuture<AssertionOutcome> hasId(Pattern id) {
+        return hasId(id, null);
+    }
+
+    AssertionFuture<AssertionOutcome> hasId(Pattern id, LocatorAssertions.HasIdOptions options);
+
+    default AssertionFuture<AssertionOutcome> hasJSProperty(String name, Object value) {
+        return hasJSProperty(name, value, null);
+    }
+
+    AssertionFuture<AssertionOutcome> hasJSProperty(String name, Object value,
+                                                    LocatorAssertions.HasJSPropertyOptions options);
+
+    default AssertionFuture<AssertionOutcome> hasText(String expected) {
+        return hasText(expected, null);
+    }
+
+    AssertionFuture<AssertionOutcome> hasText(String expected, LocatorAssertions.HasTextOptions options);
+
+    default AssertionFuture<AssertionOutcome> hasText(Pattern expected) {
+        return hasText(expected, null);
+    }
+
+    AssertionFuture<AssertionOutcome> hasText(Pattern expected, LocatorAssertions.HasTextOptions options);
+
+    default AssertionFuture<AssertionOutcome> hasText(String[] expected) {
+        return hasText(expected, null);
+    }
+
+    AssertionFuture<AssertionOutcome> hasText(String[] expected, LocatorAssertions.HasTextOptions options);
+
+    default AssertionFuture<AssertionOutcome> hasText(Pattern[] expected) {
+        return hasText(expected, null);
+    }
+
+    AssertionFuture<AssertionOutcome> hasText(Pattern[] expected, LocatorAssertions.HasTextOptions options);
+
+    default AssertionFuture<AssertionOutcome> hasValue(String value) {
+        return hasValue(value, null);
+    }
+
+    AssertionFuture<AssertionOutcome> hasValue(String value, LocatorAssertions.HasValueOptions options);
+
+    default AssertionFuture<AssertionOutcome> hasValue(Pattern value) {
+        return hasValue(value, null);
+    }
+
+    AssertionFuture<AssertionOutcome> hasValue(Pattern value, LocatorAssertions.HasValueOptions options);
+
+    default AssertionFuture<AssertionOutcome> hasValues(String[] values) {
+        return hasValues(values, null);
+    }
+
+    AssertionFuture<AssertionOutcome> hasValues(String[] values, LocatorAssertions.HasValuesOptions options);
+
+    default AssertionFuture<AssertionOutcome> hasValues(Pattern[] values) {
+        return hasValues(values, null);
+    }
+
+    AssertionFuture<AssertionOutcome> hasValues(Pattern[] values, LocatorAssertions.HasValuesOptions options);
+}
@@ -0,0 +1,235 @@
+package io.github.uchagani.playwright.assertions;
+
+import com.microsoft.playwright.Locator;
+import com.microsoft.playwright.assertions.LocatorAssertions;
+import com.microsoft.playwright.impl.LocatorAssertionsImpl;
+
+import java.util.regex.Pattern;
+
+class AsyncLocatorAssertionsImpl extends AsyncAssertionsBase implements AsyncLocatorAssertions {
+    private final LocatorAssertionsImpl assertions;
+    private volatile AsyncLocatorAssertionsImpl negation;
+
+    AsyncLocatorAssertionsImpl(Locator locator, AsyncSoftAssertionsImpl async) {
+        this(async, locator, false, new LocatorAssertionsImpl(locator));
+    }
+
+    private AsyncLocatorAssertionsImpl(AsyncSoftAssertionsImpl async, Locator locator, boolean negated,
+                                       LocatorAssertionsImpl assertions) {
+        super(async, locator, negated);
+        this.assertions = assertions;
+    }
+
+    @Override
+    public AsyncLocatorAssertions not() {
+        AsyncLocatorAssertionsImpl not = negation;
+        if (not == null) {
+            not = new AsyncLocatorAssertionsImpl(async, (Locator) target, !negated,
+                    (LocatorAssertionsImpl) assertions.not());
+            not.negation = this;
+            negation = not;
+        }
+        return not;
+    }
+
+    @Override
+    public AssertionFuture<AssertionOutcome> isAttached(LocatorAssertions.IsAttachedOptions options) {
+        return register("isAttached", options, LocatorAssertions.IsAttachedOptions::new, assertions::isAttached);
+    }
+
+    @Override
+    public AssertionFuture<AssertionOutcome> isChecked(LocatorAssertions.IsCheckedOptions options) {
+        return register("isChecked", options, LocatorAssertions.IsCheckedOptions::new, assertions::isChecked);
+    }
+
+    @Override
+    public AssertionFuture<AssertionOutcome> isDisabled(LocatorAssertions.IsDisabledOptions options) {
+        return register("isDisabled", options, LocatorAssertions.IsDisabledOptions::new, assertions::isDisabled);
+    }
+
+    @Override
+    public AssertionFuture<AssertionOutcome> isEditable(LocatorAssertions.IsEditableOptions options) {
+        return register("isEditable", options, LocatorAssertions.IsEditableOptions::new, assertions::isEditable);
+    }
+
+    @Override
+    public AssertionFuture<AssertionOutcome> isEmpty(LocatorAssertions.IsEmptyOptions options) {
+        return register("isEmpty", options, LocatorAssertions.IsEmptyOptions::new, assertions::isEmpty);
+    }
+
+    @Override
+    public AssertionFuture<AssertionOutcome> isEnabled(LocatorAssertions.IsEnabledOptions options) {
+        return register("isEnabled", options, LocatorAssertions.IsEnabledOptions::new, assertions::isEnabled);
+    }
+
+    @Override
+    public AssertionFuture<AssertionOutcome> isFocused(LocatorAssertions.IsFocusedOptions options) {
+        return register("isFocused", options, LocatorAssertions.IsFocusedOptions::new, assertions::isFocused);
+    }
+
+    @Override
+    public AssertionFuture<AssertionOutcome> isHidden(LocatorAssertions.IsHiddenOptions options) {
+        return register("isHidden", options, LocatorAssertions.IsHiddenOptions::new, assertions::isHidden);
+    }
+
+    @Override
+    public AssertionFuture<AssertionOutcome> isInViewport(LocatorAssertions.IsInViewportOptions options) {
+        return register("isInViewport", options, LocatorAssertions.IsInViewportOptions::new, assertions::isInViewport);
+    }
+
+    @Override
+    public AssertionFuture<AssertionOutcome> isVisible(LocatorAssertions.IsVisibleOptions options) {
+        return register("isVisible", options, LocatorAssertions.IsVisibleOptions::new, assertions::isVisible);
+    }
+
+    @Override
+    public AssertionFuture<AssertionOutcome> containsText(String expected,
+                                                          LocatorAssertions.ContainsTextOptions options) {
+        return register("containsText", options, LocatorAssertions.ContainsTextOptions::new,
+                o -> assertions.containsText(expected, o), expected);
+    }
+
+    @Override
+    public AssertionFuture<AssertionOutcome> containsText(Pattern expected,
+                                                          LocatorAssertions.ContainsTextOptions options) {
+        return register("containsText", options, LocatorAssertions.ContainsTextOptions::new,
+                o -> assertions.containsText(expected, o), expected);
+    }
+
+    @Override
+    public AssertionFuture<AssertionOutcome> containsText(String[] expected,
+                                                          LocatorAssertions.ContainsTextOptions options) {
+        return register("containsText", options, LocatorAssertions.ContainsTextOptions::new,
+                o -> assertions.containsText(expected, o), (Object) expected);
+    }
+
+    @Override
+    public AssertionFuture<AssertionOutcome> containsText(Pattern[] expected,
+                                                          LocatorAssertions.ContainsTextOptions options) {
+        return register("containsText", options, LocatorAssertions.ContainsTextOptions::new,
+                o -> assertions.containsText(expected, o), (Object) expected);
+    }
+
+    @Override
+    public AssertionFuture<AssertionOutcome> hasAttribute(String name, String value,
+                                                          LocatorAssertions.HasAttributeOptions options) {
+        return register("hasAttribute", options, LocatorAssertions.HasAttributeOptions::new,
+                o -> assertions.hasAttribute(name, value, o), name, value);
+    }
+
+    @Override
+    public AssertionFuture<AssertionOutcome> hasAttribute(String name, Pattern value,
+                                                          LocatorAssertions.HasAttributeOptions options) {
+        return register("hasAttribute", options, LocatorAssertions.HasAttributeOptions::new,
+                o -> assertions.hasAttribute(name, value, o), name, value);
+    }
+
+    @Override
+    public AssertionFuture<AssertionOutcome> hasClass(String expected, LocatorAssertions.HasClassOptions options) {
+        return register("hasClass", options, LocatorAssertions.HasClassOptions::new,
+                o -> assertions.hasClass(expected, o), expected);
+    }
+
+    @Override
+    public AssertionFuture<AssertionOutcome> hasClass(Pattern expected, LocatorAssertions.HasClassOptions options) {
+        return register("hasClass", options, LocatorAssertions.HasClassOptions::new,
+                o -> assertions.hasClass(expected, o), expected);
+    }
+
+    @Override
+    public AssertionFuture<AssertionOutcome> hasClass(String[] expected, LocatorAssertions.HasClassOptions options) {
+        return register("hasClass", options, LocatorAssertions.HasClassOptions::new,
+                o -> assertions.hasClass(expected, o), (Object) expected);
+    }
+
+    @Override
+    public AssertionFuture<AssertionOutcome> hasClass(Pattern[] expected, LocatorAssertions.HasClassOptions options) {
+        return register("hasClass", options, LocatorAssertions.HasClassOptions::new,
+                o -> assertions.hasClass(expected, o), (Object) expected);
+    }
+
+    @Override
+    public AssertionFuture<AssertionOutcome> hasCount(int count, LocatorAssertions.HasCountOptions options) {
+        return register("hasCount", options, LocatorAssertions.HasCountOptions::new,
+                o -> assertions.hasCount(count, o), count);
+    }
+
+    @Override
+    public AssertionFuture<AssertionOutcome> hasCSS(String name, String value,
+                                                    LocatorAssertions.HasCSSOptions options) {
+        return register("hasCSS", options, LocatorAssertions.HasCSSOptions::new,
+                o -> assertions.hasCSS(name, value, o), name, value);
+    }
+
+    @Override
+    public AssertionFuture<AssertionOutcome> hasCSS(String name, Pattern value,
+                                                    LocatorAssertions.HasCSSOptions options) {
+        return register("hasCSS", options, LocatorAssertions.HasCSSOptions::new,
+                o -> assertions.hasCSS(name, value, o), name, value);
+    }
+
+    @Override
+    public AssertionFuture<AssertionOutcome> hasId(String id, LocatorAssertions.HasIdOptions options) {
+        return register("hasId", options, LocatorAssertions.HasIdOptions::new, o -> assertions.hasId(id, o), id);
+    }
+
+    @Override
+    public AssertionFuture<AssertionOutcome> hasId(Pattern id, LocatorAssertions.HasIdOptions options) {
+        return register("hasId", options, LocatorAssertions.HasIdOptions::new, o -> assertions.hasId(id, o), id);
+    }
+
+    @Override
+    public AssertionFuture<AssertionOutcome> hasJSProperty(String name, Object value,
+                                                           LocatorAssertions.HasJSPropertyOptions options) {
+        return register("hasJSProperty", options, LocatorAssertions.HasJSPropertyOptions::new,
+                o -> assertions.hasJSProperty(name, value, o), name, value);
+    }
+
+    @Override
+    public AssertionFuture<AssertionOutcome> hasText(String expected, LocatorAssertions.HasTextOptions options) {
+        return register("hasText", options, LocatorAssertions.HasTextOptions::new,
+                o -> assertions.hasText(expected, o), expected);
+    }
+
+    @Override
+    public AssertionFuture<AssertionOutcome> hasText(Pattern expected, LocatorAssertions.HasTextOptions options) {
+        return register("hasText", options, LocatorAssertions.HasTextOptions::new,
+                o -> assertions.hasText(expected, o), expected);
+    }
+
+    @Override
+    public AssertionFuture<AssertionOutcome> hasText(String[] expected, LocatorAssertions.HasTextOptions options) {
+        return register("hasText", options, LocatorAssertions.HasTextOptions::new,
+                o -> assertions.hasText(expected, o), (Object) expected);
+    }
+
+    @Override
+    public AssertionFuture<AssertionOutcome> hasText(Pattern[] expected, LocatorAssertions.HasTextOptions options) {
+        return register("hasText", options, LocatorAssertions.HasTextOptions::new,
+                o -> assertions.hasText(expected, o), (Object) expected);
+    }
+
+    @Override
+    public AssertionFuture<AssertionOutcome> hasValue(String value, LocatorAssertions.HasValueOptions options) {
+        return register("hasValue", options, LocatorAssertions.HasValueOptions::new,
+                o -> assertions.hasValue(value, o), value);
+    }
+
+    @Override
+    public AssertionFuture<AssertionOutcome> hasValue(Pattern value, LocatorAssertions.HasValueOptions options) {
+        return register("hasValue", options, LocatorAssertions.HasValueOptions::new,
+                o -> assertions.hasValue(value, o), value);
+    }
+
+    @Override
+    public AssertionFuture<AssertionOutcome> hasValues(String[] values, LocatorAssertions.HasValuesOptions options) {
+        return register("hasValues", options, LocatorAssertions.HasValuesOptions::new,
+                o -> assertions.hasValues(values, o), (Object) values);
+    }
+
+    @Override
+    public AssertionFuture<AssertionOutcome> hasValues(Pattern[] values, LocatorAssertions.HasValuesOptions options) {
+        return register("hasValues", options, LocatorAssertions.HasValuesOptions::new,
+                o -> assertions.hasValues(values, o), (Object) values);
+    }
+}
@@ -0,0 +1,37 @@
+package io.github.uchagani.playwright.assertions;
+
+import com.microsoft.playwright.assertions.PageAssertions;
+
+import java.util.regex.Pattern;
+
+/**
+ * The assertions of {@link PageAssertions}, each returning the future of its outcome. See
+ * {@link AsyncSoftAssertions}.
+ */
+public interface AsyncPageAssertions {
+    AsyncPageAssertions not();
+
+    default AssertionFuture<AssertionOutcome> hasTitle(String title) {
+        return hasTitle(title, null);
+    }
+
+    AssertionFuture<AssertionOutcome> hasTitle(String title, PageAssertions.HasTitleOptions options);
+
+    default AssertionFuture<AssertionOutcome> hasTitle(Pattern title) {
+        return hasTitle(title, null);
+    }
+
+    AssertionFuture<AssertionOutcome> hasTitle(Pattern title, PageAssertions.HasTitleOptions options);
+
+    default AssertionFuture<AssertionOutcome> hasURL(String url) {
+        return hasURL(url, null);
+    }
+
+    AssertionFuture<AssertionOutcome> hasURL(String url, PageAssertions.HasURLOptions options);
+
+    default AssertionFuture<AssertionOutcome> hasURL(Pattern url) {
+        return hasURL(url, null);
+    }
+
+    AssertionFuture<AssertionOutcome> hasURL(Pattern url, PageAssertions.HasURLOptions options);
+}
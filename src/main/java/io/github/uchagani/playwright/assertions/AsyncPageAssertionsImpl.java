@@ -0,0 +1,55 @@
+package io.github.uchagani.playwright.assertions;
+
+import com.microsoft.playwright.Page;
+import com.microsoft.playwright.assertions.PageAssertions;
+import com.microsoft.playwright.impl.PageAssertionsImpl;
+
+import java.util.regex.Pattern;
+
+class AsyncPageAssertionsImpl extends AsyncAssertionsBase implements AsyncPageAssertions {
+    private final PageAssertionsImpl assertions;
+    private volatile AsyncPageAssertionsImpl negation;
+
+    AsyncPageAssertionsImpl(Page page, AsyncSoftAssertionsImpl async) {
+        this(async, page, false, new PageAssertionsImpl(page));
+    }
+
+    private AsyncPageAssertionsImpl(AsyncSoftAssertionsImpl async, Page page, boolean negated,
+                                    PageAssertionsImpl assertions) {
+        super(async, page, negated);
+        this.assertions = assertions;
+    }
+
+    @Override
+    public AsyncPageAssertions not() {
+        AsyncPageAssertionsImpl not = negation;
+        if (not == null) {
+            not = new AsyncPageAssertionsImpl(async, (Page) target, !negated, (PageAssertionsImpl) assertions.not());
+            not.negation = this;
+            negation = not;
+        }
+        return not;
+    }
+
+    @Override
+    public AssertionFuture<AssertionOutcome> hasTitle(String title, PageAssertions.HasTitleOptions options) {
+        return register("hasTitle", options, PageAssertions.HasTitleOptions::new,
+                o -> assertions.hasTitle(title, o), title);
+    }
+
+    @Override
+    public AssertionFuture<AssertionOutcome> hasTitle(Pattern title, PageAssertions.HasTitleOptions options) {
+        return register("hasTitle", options, PageAssertions.HasTitleOptions::new,
+                o -> assertions.hasTitle(title, o), title);
+    }
+
+    @Override
+    public AssertionFuture<AssertionOutcome> hasURL(String url, PageAssertions.HasURLOptions options) {
+        return register("hasURL", options, PageAssertions.HasURLOptions::new, o -> assertions.hasURL(url, o), url);
+    }
+
+    @Override
+    public AssertionFuture<AssertionOutcome> hasURL(Pattern url, PageAssertions.HasURLOptions options) {
+        return register("hasURL", options, PageAssertions.HasURLOptions::new, o -> assertions.hasURL(url, o), url);
+    }
+}
@@ -0,0 +1,27 @@
+package io.github.uchagani.playwright.assertions;
+
+import com.microsoft.playwright.Locator;
+import com.microsoft.playwright.Page;
+
+/**
+ * Soft assertions that return as soon as they are made, with an {@link AssertionFuture} of their outcome, made
+ * through {@link SoftAssertions#async()}. The timeout of an async assertion runs from when it is made, so the time
+ * the test spends driving the page in the meantime counts towards it.
+ * <p>
+ * Async assertions are checked in the background while the test keeps driving the page: the page calls back every
+ * poll interval while any are outstanding, and Playwright runs those callbacks within the Playwright calls the test
+ * makes, so their futures complete without being waited for and without a second thread using Playwright objects.
+ * They are also checked by {@link #poll()}, by waiting for one of their futures or for a future derived from them, and
+ * by {@link SoftAssertions#assertAll()}, which waits for all of them.
+ */
+public interface AsyncSoftAssertions {
+    AsyncLocatorAssertions assertThat(Locator locator);
+
+    AsyncPageAssertions assertThat(Page page);
+
+    /**
+     * Checks every outstanding async assertion once, without waiting, and completes the futures of those that passed
+     * or whose timeout has elapsed. Cheap enough to call between the steps of a test.
+     */
+    void poll();
+}
@@ -0,0 +1,52 @@
+package io.github.uchagani.playwright.assertions;
+
+import com.microsoft.playwright.Locator;
+import com.microsoft.playwright.Page;
+
+import java.util.Collections;
+import java.util.concurrent.CompletableFuture;
+
+class AsyncSoftAssertionsImpl implements AsyncSoftAssertions {
+    final SoftAssertionsImpl softly;
+    private final DeferredAssertions pending = new DeferredAssertions(true);
+
+    AsyncSoftAssertionsImpl(SoftAssertionsImpl softly) {
+        this.softly = softly;
+    }
+
+    @Override
+    public AsyncLocatorAssertions assertThat(Locator locator) {
+        return new AsyncLocatorAssertionsImpl(locator, this);
+    }
+
+    @Override
+    public AsyncPageAssertions assertThat(Page page) {
+        return new AsyncPageAssertionsImpl(page, this);
+    }
+
+    @Override
+    public void poll() {
+        pending.pollOnce(softly);
+    }
+
+    AssertionFuture<AssertionOutcome> add(Expectation expectation) {
+        CompletableFuture<AssertionOutcome> outcome = new CompletableFuture<>();
+        expectation.outcome = outcome;
+        softly.events.started(expectation.method, expectation.target, expectation.negated);
+        pending.add(expectation);
+        PlaywrightDispatcher.submitAsync(this, AdaptiveTimeouts.pageOf(expectation.target));
+        return new AssertionFuture<>(outcome, Collections.singleton(this));
+    }
+
+    boolean isDone() {
+        return pending.isEmpty();
+    }
+
+    void abandon(Throwable error) {
+        pending.abandon(error);
+    }
+
+    void awaitAll() {
+        pending.awaitAll(softly);
+    }
+}
@@ -0,0 +1,293 @@
+package io.github.uchagani.playwright.assertions;
+
+import com.microsoft.playwright.Locator;
+import com.microsoft.playwright.Page;
+import com.microsoft.playwright.PlaywrightException;
+import org.opentest4j.AssertionFailedError;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Holds the assertions registered while {@link SoftAssertions.CreateOptions#deferred} is enabled and polls all of
+ * them together in a single retry loop, so the total wait is the longest timeout rather than the sum of them.
+ * Simple expectations on the same locator are checked with one {@link LocatorBatch browser round trip} per poll.
+ * The other checks of a round share one short probe timeout, and each expectation is finally run with a realistic
+ * timeout once its own is nearly up, which decides its outcome.
+ * <p>
+ * The {@link AsyncSoftAssertions async} assertions use the same loop one round at a time, with their timeouts running
+ * from when they were made. Polling them may happen from within a Playwright call made while polling, in which case
+ * the nested poll does nothing.
+ */
+class DeferredAssertions {
+    // The checks of one round share this much time, so a round of failing checks takes about as long as one.
+    static final double PROBE_TIMEOUT = 100;
+    // Enough for Playwright to check once, for the checks made after a round has used up its share.
+    static final double MIN_PROBE_TIMEOUT = 20;
+    // Once less than this, or its whole timeout if that is shorter, is left of an expectation's timeout, its next
+    // check is the last and decides the outcome. It waits for the rest of the timeout, and the last attempts of a
+    // round share at least this much time, so the outcome does not hinge on a single short probe.
+    static final double LAST_ATTEMPT_TIMEOUT = 500;
+    static final double POLL_INTERVAL_MILLIS = 100;
+
+    private final Queue<Pending> pending = new ConcurrentLinkedQueue<>();
+    private final boolean timedFromAdd;
+    // Taken from pending but not resolved yet, only accessed by the thread polling.
+    private final List<Pending> remaining = new ArrayList<>();
+    // Set while polling, as the Playwright calls of a check can call back into poll on the same thread.
+    private boolean polling;
+
+    DeferredAssertions() {
+        this(false);
+    }
+
+    /**
+     * @param timedFromAdd whether the timeout of an expectation runs from when it is added rather than from when it
+     *                     is first polled
+     */
+    DeferredAssertions(boolean timedFromAdd) {
+        this.timedFromAdd = timedFromAdd;
+    }
+
+    void add(Expectation expectation) {
+        pending.add(new Pending(expectation));
+    }
+
+    /**
+     * Polls a single expectation right away, for assertions made while a {@link PollingStrategy} is configured.
+     */
+    static void check(SoftAssertionsImpl softly, Expectation expectation) {
+        DeferredAssertions single = new DeferredAssertions();
+        single.add(expectation);
+        single.awaitAll(softly);
+    }
+
+    /**
+     * Polls the expectations registered so far until all of them are resolved. Expectations registered by other
+     * threads while this runs are left for the next call.
+     */
+    void awaitAll(SoftAssertionsImpl softly) {
+        poll(softly, true);
+    }
+
+    /**
+     * Checks the expectations registered so far once, without waiting, and resolves those that passed or whose
+     * timeout has elapsed.
+     */
+    void pollOnce(SoftAssertionsImpl softly) {
+        poll(softly, false);
+    }
+
+    synchronized boolean isEmpty() {
+        return pending.isEmpty() && remaining.isEmpty();
+    }
+
+    /**
+     * Completes the futures of all outstanding expectations with {@code error}, for when polling them failed
+     * unexpectedly, and forgets about them.
+     */
+    synchronized void abandon(Throwable error) {
+        for (Pending p; (p = pending.poll()) != null; ) {
+            remaining.add(p);
+        }
+        for (Pending p : remaining) {
+            if (p.expectation.outcome != null) {
+                p.expectation.outcome.completeExceptionally(error);
+            }
+        }
+        remaining.clear();
+    }
+
+    private synchronized void poll(SoftAssertionsImpl softly, boolean untilResolved) {
+        if (polling || pending.isEmpty() && remaining.isEmpty()) {
+            return;
+        }
+        polling = true;
+        try {
+            pollRounds(softly, untilResolved);
+        } finally {
+            polling = false;
+        }
+    }
+
+    private void pollRounds(SoftAssertionsImpl softly, boolean untilResolved) {
+        TimeoutBudget budget = softly.budget;
+        FailFast failFast = softly.failFast;
+        Instant startTime = Instant.now();
+        long start = System.nanoTime();
+        for (Pending p; (p = pending.poll()) != null; ) {
+            if (!timedFromAdd) {
+                p.startTime = startTime;
+                p.start = start;
+                softly.events.started(p.expectation.method, p.expectation.target, p.expectation.negated);
+            }
+            p.timeout = timeout(p.expectation.requestedTimeout, budget);
+            p.deadline = p.timeout == 0 ? Long.MAX_VALUE : p.start + nanos(p.timeout);
+            remaining.add(p);
+        }
+        List<Pending> polled = new ArrayList<>(remaining);
+
+        int rounds = 0;
+        try {
+            while (!remaining.isEmpty()) {
+                rounds++;
+                long probeEnd = System.nanoTime() + nanos(PROBE_TIMEOUT);
+                checkBatches(remaining);
+                for (Iterator<Pending> it = remaining.iterator(); it.hasNext(); ) {
+                    Pending p = it.next();
+                    if (p.passedBatch) {
+                        resolve(softly, p, AssertionRecord.Outcome.PASSED);
+                        it.remove();
+                        continue;
+                    }
+                    long now = System.nanoTime();
+                    long lastAttemptNanos = nanos(Math.min(LAST_ATTEMPT_TIMEOUT, p.timeout));
+                    boolean lastAttempt = p.deadline != Long.MAX_VALUE && p.deadline - now <= lastAttemptNanos;
+                    if (p.failedBatch && !lastAttempt) {
+                        continue;
+                    }
+                    long probeNanos = probeEnd - now;
+                    if (lastAttempt) {
+                        probeEnd = Math.max(probeEnd, now + lastAttemptNanos);
+                        probeNanos = Math.max(p.deadline - now, probeEnd - now);
+                    }
+                    p.attempts++;
+                    try {
+                        p.expectation.run(Math.max(MIN_PROBE_TIMEOUT, probeNanos / 1_000_000.0));
+                        resolve(softly, p, AssertionRecord.Outcome.PASSED);
+                        it.remove();
+                    } catch (AssertionFailedError failure) {
+                        if (lastAttempt) {
+                            p.failure = softly.withArtifacts(failure, p.expectation.target);
+                            resolve(softly, p, AssertionRecord.Outcome.FAILED);
+                            it.remove();
+                        }
+                    } catch (PlaywrightException failure) {
+                        // Not a mismatch (e.g. a strict mode violation), retrying will not change the outcome.
+                        p.failure = softly.withArtifacts(failure, p.expectation.target);
+                        resolve(softly, p, AssertionRecord.Outcome.FAILED);
+                        it.remove();
+                    }
+                }
+                if (failFast.isTripped()) {
+                    for (Pending p : remaining) {
+                        resolve(softly, p, AssertionRecord.Outcome.SKIPPED);
+                    }
+                    remaining.clear();
+                }
+                if (remaining.isEmpty() || !untilResolved) {
+                    break;
+                }
+                Page page = AdaptiveTimeouts.pageOf(remaining.get(0).expectation.target);
+                softly.polling.waitForNextCheck(page, rounds);
+            }
+        } finally {
+            if (budget != null) {
+                budget.consume(System.nanoTime() - start);
+            }
+        }
+
+        for (Pending p : polled) {
+            if (p.failure != null) {
+                softly.recordFailure(p.failure);
+            }
+        }
+        // Completed last, so that whatever depends on an outcome sees its failure recorded.
+        for (Pending p : polled) {
+            if (p.record != null && p.expectation.outcome != null) {
+                p.expectation.outcome.complete(new AssertionOutcome(p.record, p.failure));
+            }
+        }
+    }
+
+    private static void resolve(SoftAssertionsImpl softly, Pending p, AssertionRecord.Outcome outcome) {
+        switch (outcome) {
+            case PASSED:
+                softly.failFast.passed();
+                if (p.expectation.passedKey != null) {
+                    softly.passedExpectations.passed(p.expectation.passedKey);
+                }
+                break;
+            case FAILED:
+                softly.failFast.failed();
+                break;
+            case SKIPPED:
+                softly.failFast.skipped(1);
+                break;
+        }
+        if (softly.events.enabled() || p.expectation.outcome != null) {
+            Expectation expectation = p.expectation;
+            p.record = new AssertionRecord(expectation.method, expectation.target, expectation.negated, p.startTime,
+                    Duration.ofNanos(System.nanoTime() - p.start), p.attempts, outcome);
+            if (softly.events.enabled()) {
+                softly.events.completed(p.record, p.failure);
+            }
+        }
+    }
+
+    private static void checkBatches(List<Pending> remaining) {
+        Map<List<Object>, List<Pending>> batches = new LinkedHashMap<>();
+        for (Pending p : remaining) {
+            p.passedBatch = false;
+            p.failedBatch = false;
+            if (p.batchable) {
+                batches.computeIfAbsent(Locators.key((Locator) p.expectation.target), key -> new ArrayList<>()).add(p);
+            }
+        }
+
+        for (List<Pending> batch : batches.values()) {
+            List<Expectation> expectations = new ArrayList<>();
+            for (Pending p : batch) {
+                expectations.add(p.expectation);
+            }
+            boolean[] passed = LocatorBatch.evaluate(expectations);
+            if (passed == null) {
+                continue;
+            }
+            for (int i = 0; i < passed.length; i++) {
+                batch.get(i).attempts++;
+                batch.get(i).passedBatch = passed[i];
+                batch.get(i).failedBatch = !passed[i];
+            }
+        }
+    }
+
+    // In milliseconds, 0 meaning no timeout.
+    private static double timeout(Double requestedTimeout, TimeoutBudget budget) {
+        if (budget != null) {
+            return budget.timeoutFor(requestedTimeout);
+        }
+        return requestedTimeout == null ? Timeouts.defaultAssertionTimeout() : requestedTimeout;
+    }
+
+    private static long nanos(double millis) {
+        return TimeUnit.MICROSECONDS.toNanos((long) (millis * 1000));
+    }
+
+    private static class Pending {
+        final Expectation expectation;
+        final boolean batchable;
+        Instant startTime = Instant.now();
+        long start = System.nanoTime();
+        double timeout;
+        long deadline;
+        boolean passedBatch;
+        boolean failedBatch;
+        int attempts;
+        Throwable failure;
+        AssertionRecord record;
+
+        Pending(Expectation expectation) {
+            this.expectation = expectation;
+            this.batchable = LocatorBatch.isBatchable(expectation);
+        }
+    }
+}
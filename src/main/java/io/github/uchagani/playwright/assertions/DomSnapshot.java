@@ -0,0 +1,249 @@
+package io.github.uchagani.playwright.assertions;
+
+import com.microsoft.playwright.Page;
+import com.microsoft.playwright.PlaywrightException;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * The elements of a page, read with a single evaluation once the DOM has stopped changing. Every element keeps its
+ * tag, attributes, text, value and a chosen set of computed CSS properties, and elements in open shadow roots are
+ * children of their host. Elements are indexed by id, class, tag, attribute, attribute value and text, so that
+ * {@link SnapshotSelector} only has to look at the few elements that can match a selector.
+ */
+final class DomSnapshot {
+    static final List<String> DEFAULT_CSS_PROPERTIES = Collections.unmodifiableList(Arrays.asList("display",
+            "visibility", "color", "background-color", "font-weight", "font-size", "opacity"));
+    static final double DEFAULT_QUIET_PERIOD = 100;
+
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    // Waits for the load event and then for quietPeriod milliseconds without mutations, giving up after timeout. The
+    // text of an element is computed like Playwright's hasText does: scripts, styles and the head are skipped and the
+    // contents of shadow roots are included. The text of a shadow root is kept separately for the text engine.
+    private static final String CAPTURE = "async ([quietPeriod, timeout, cssProperties]) => {\n"
+            + "  const settled = await new Promise(resolve => {\n"
+            + "    let timer;\n"
+            + "    const done = result => {\n"
+            + "      observer.disconnect(); clearTimeout(timer); clearTimeout(limit);\n"
+            + "      removeEventListener('load', loaded); resolve(result);\n"
+            + "    };\n"
+            + "    const observer = new MutationObserver(() => {\n"
+            + "      clearTimeout(timer); timer = setTimeout(() => done(true), quietPeriod);\n"
+            + "    });\n"
+            + "    const loaded = () => {\n"
+            + "      const changes = {subtree: true, childList: true, attributes: true, characterData: true};\n"
+            + "      observer.observe(document, changes);\n"
+            + "      timer = setTimeout(() => done(true), quietPeriod);\n"
+            + "    };\n"
+            + "    const limit = timeout > 0 ? setTimeout(() => done(false), timeout) : 0;\n"
+            + "    if (document.readyState === 'complete') loaded(); else addEventListener('load', loaded);\n"
+            + "  });\n"
+            + "  if (!settled) return null;\n"
+            + "  const elements = [];\n"
+            + "  const skipped = ['SCRIPT', 'NOSCRIPT', 'STYLE', 'HEAD'];\n"
+            + "  const visit = (root, parent, shadow, inHead) => {\n"
+            + "    let text = '';\n"
+            + "    for (const node of root.childNodes) {\n"
+            + "      if (node.nodeType === Node.TEXT_NODE) { text += node.nodeValue; continue; }\n"
+            + "      if (node.nodeType !== Node.ELEMENT_NODE) continue;\n"
+            + "      const attributes = {};\n"
+            + "      for (const attribute of node.attributes) attributes[attribute.name] = attribute.value;\n"
+            + "      const style = getComputedStyle(node);\n"
+            + "      const css = {};\n"
+            + "      for (const property of cssProperties) css[property] = style.getPropertyValue(property);\n"
+            + "      const input = ['INPUT', 'TEXTAREA', 'SELECT'].includes(node.nodeName);\n"
+            + "      const value = input ? node.value : null;\n"
+            + "      const entry = {tag: node.localName, parent, shadow, attributes, css, value};\n"
+            + "      const index = elements.push(entry) - 1;\n"
+            + "      const skip = inHead || skipped.includes(node.nodeName);\n"
+            + "      const childrenInHead = inHead || node.nodeName === 'HEAD';\n"
+            + "      const shadowText = node.shadowRoot ? visit(node.shadowRoot, index, true, childrenInHead) : null;\n"
+            + "      const own = (shadowText || '') + visit(node, index, false, childrenInHead);\n"
+            + "      entry.text = skip ? '' : own;\n"
+            + "      entry.skipsText = skip;\n"
+            + "      if (shadowText !== null) entry.shadowText = shadowText;\n"
+            + "      text += entry.text;\n"
+            + "    }\n"
+            + "    return text;\n"
+            + "  };\n"
+            + "  visit(document, -1, false, false);\n"
+            + "  return elements;\n"
+            + "}";
+
+    final Page page;
+    final List<String> cssProperties;
+    final List<Element> elements;
+    private final Map<String, List<Element>> byId = new HashMap<>();
+    private final Map<String, List<Element>> byClass = new HashMap<>();
+    private final Map<String, List<Element>> byTag = new HashMap<>();
+    private final Map<String, List<Element>> byAttribute = new HashMap<>();
+    private final Map<String, Map<String, List<Element>>> byAttributeValue = new HashMap<>();
+    // Keyed by the text of the elements as the lax text engine compares it.
+    private final Map<String, List<Element>> byText = new HashMap<>();
+
+    DomSnapshot(Page page, List<String> cssProperties, List<Map<String, Object>> serialized) {
+        this.page = page;
+        this.cssProperties = cssProperties;
+        List<Element> elements = new ArrayList<>(serialized.size());
+        for (Map<String, Object> entry : serialized) {
+            int parent = ((Number) entry.get("parent")).intValue();
+            Element element = new Element(elements.size(), entry, parent < 0 ? null : elements.get(parent));
+            elements.add(element);
+            index(element);
+        }
+        this.elements = elements;
+    }
+
+    private void index(Element element) {
+        if (element.parent != null) {
+            element.parent.children.add(element);
+        }
+        add(byTag, element.tag, element);
+        for (String className : element.classes) {
+            add(byClass, className, element);
+        }
+        for (Map.Entry<String, String> attribute : element.attributes.entrySet()) {
+            add(byAttribute, attribute.getKey(), element);
+            add(byAttributeValue.computeIfAbsent(attribute.getKey(), name -> new HashMap<>()), attribute.getValue(),
+                    element);
+        }
+        String id = element.attributes.get("id");
+        if (id != null) {
+            add(byId, id, element);
+        }
+        if (!element.skipsText) {
+            add(byText, element.laxText, element);
+        }
+    }
+
+    private static void add(Map<String, List<Element>> index, String key, Element element) {
+        index.computeIfAbsent(key, k -> new ArrayList<>(1)).add(element);
+    }
+
+    @SuppressWarnings("unchecked")
+    static DomSnapshot capture(Page page, SoftAssertions.SnapshotOptions options) {
+        double quietPeriod = options.quietPeriod == null ? DEFAULT_QUIET_PERIOD : options.quietPeriod;
+        double timeout = options.timeout == null ? Timeouts.defaultAssertionTimeout() : options.timeout;
+        List<String> cssProperties = options.cssProperties == null ? DEFAULT_CSS_PROPERTIES : options.cssProperties;
+        Object serialized = page.evaluate(CAPTURE, Arrays.asList(quietPeriod, timeout, cssProperties));
+        if (serialized == null) {
+            throw new PlaywrightException("Page did not stop changing for " + quietPeriod + "ms within " + timeout
+                    + "ms, no snapshot was taken");
+        }
+        return new DomSnapshot(page, cssProperties, (List<Map<String, Object>>) serialized);
+    }
+
+    /**
+     * Returns the elements {@code selector} matches, or {@code null} if it cannot be resolved against a snapshot.
+     */
+    List<Element> select(String selector) {
+        SnapshotSelector parsed = SnapshotSelector.parse(selector);
+        return parsed == null ? null : parsed.select(this);
+    }
+
+    List<Element> withId(String id) {
+        return byId.getOrDefault(id, Collections.emptyList());
+    }
+
+    List<Element> withClass(String className) {
+        return byClass.getOrDefault(className, Collections.emptyList());
+    }
+
+    List<Element> withTag(String tag) {
+        return byTag.getOrDefault(tag, Collections.emptyList());
+    }
+
+    List<Element> withAttribute(String name) {
+        return byAttribute.getOrDefault(name, Collections.emptyList());
+    }
+
+    List<Element> withAttribute(String name, String value) {
+        Map<String, List<Element>> values = byAttributeValue.get(name);
+        return values == null ? Collections.emptyList() : values.getOrDefault(value, Collections.emptyList());
+    }
+
+    /**
+     * Returns the elements whose lax text contains {@code laxText}. Many elements share their text with a parent or
+     * child, so this looks at fewer texts than there are elements.
+     */
+    List<Element> containingText(String laxText) {
+        List<Element> elements = new ArrayList<>();
+        for (Map.Entry<String, List<Element>> entry : byText.entrySet()) {
+            if (entry.getKey().contains(laxText)) {
+                elements.addAll(entry.getValue());
+            }
+        }
+        return elements;
+    }
+
+    static List<String> splitClasses(String classes) {
+        String trimmed = classes.trim();
+        return trimmed.isEmpty() ? Collections.emptyList() : Arrays.asList(WHITESPACE.split(trimmed));
+    }
+
+    // Like Playwright's own normalization for hasText and text selectors.
+    static String normalizeWhiteSpace(String text) {
+        return WHITESPACE.matcher(text.replace("\u200b", "").trim()).replaceAll(" ");
+    }
+
+    static final class Element {
+        final int index;
+        final String tag;
+        final Element parent;
+        final List<Element> children = new ArrayList<>();
+        // Whether the element is a top level element of the shadow root of its parent.
+        final boolean inShadowRoot;
+        final Map<String, String> attributes;
+        final List<String> classes;
+        // Whitespace normalized, the text hasText compares.
+        final String text;
+        // Lower case text, the text the lax text engine compares.
+        final String laxText;
+        // null unless the element hosts a shadow root.
+        final String laxShadowText;
+        final boolean skipsText;
+        // null for elements other than input, textarea and select.
+        final String value;
+        final Map<String, String> css;
+
+        Element(int index, Map<String, Object> serialized, Element parent) {
+            this.index = index;
+            this.tag = ((String) serialized.get("tag")).toLowerCase(Locale.ROOT);
+            this.parent = parent;
+            this.inShadowRoot = Boolean.TRUE.equals(serialized.get("shadow"));
+            this.attributes = strings(serialized.get("attributes"));
+            String classAttribute = attributes.get("class");
+            this.classes = classAttribute == null ? Collections.emptyList() : splitClasses(classAttribute);
+            Object text = serialized.get("text");
+            this.text = text == null ? "" : normalizeWhiteSpace((String) text);
+            this.laxText = this.text.toLowerCase(Locale.ROOT);
+            Object shadowText = serialized.get("shadowText");
+            this.laxShadowText = shadowText == null ? null
+                    : normalizeWhiteSpace((String) shadowText).toLowerCase(Locale.ROOT);
+            this.skipsText = Boolean.TRUE.equals(serialized.get("skipsText"));
+            this.value = (String) serialized.get("value");
+            this.css = strings(serialized.get("css"));
+        }
+
+        @SuppressWarnings("unchecked")
+        private static Map<String, String> strings(Object map) {
+            if (map == null) {
+                return Collections.emptyMap();
+            }
+            Map<String, String> strings = new LinkedHashMap<>();
+            for (Map.Entry<String, Object> entry : ((Map<String, Object>) map).entrySet()) {
+                strings.put(entry.getKey(), entry.getValue() == null ? null : String.valueOf(entry.getValue()));
+            }
+            return strings;
+        }
+    }
+}
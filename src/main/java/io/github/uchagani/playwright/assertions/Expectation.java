@@ -0,0 +1,48 @@
+package io.github.uchagani.playwright.assertions;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+import java.util.function.DoubleConsumer;
+import java.util.function.Supplier;
+
+/**
+ * A single Playwright assertion made through one of the proxies, described by what it checks so it can be inspected
+ * and run again with different timeouts.
+ */
+class Expectation {
+    final Object target;
+    final boolean negated;
+    final String method;
+    final Object[] expected;
+    final Object options;
+    final Double requestedTimeout;
+    private final DoubleConsumer assertion;
+    // Remembered once the expectation passes, when deduplication is enabled.
+    List<Object> passedKey;
+    // Completed once the expectation is resolved, for async assertions.
+    CompletableFuture<AssertionOutcome> outcome;
+
+    Expectation(Object target, boolean negated, String method, Object[] expected, Object options, DoubleConsumer assertion) {
+        this.target = target;
+        this.negated = negated;
+        this.method = method;
+        this.expected = expected;
+        this.options = options;
+        this.requestedTimeout = Timeouts.timeoutOf(options);
+        this.assertion = assertion;
+    }
+
+    /**
+     * Describes {@code assertion}, which is run with a copy of {@code options} whose timeout is replaced.
+     */
+    static <T> Expectation of(Object target, boolean negated, String method, Object[] expected, T options,
+                              Supplier<T> optionsFactory, Consumer<T> assertion) {
+        return new Expectation(target, negated, method, expected, options,
+                timeout -> assertion.accept(Timeouts.withTimeout(options, optionsFactory, timeout)));
+    }
+
+    void run(double timeout) {
+        assertion.accept(timeout);
+    }
+}
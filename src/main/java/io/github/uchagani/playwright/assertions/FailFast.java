@@ -0,0 +1,77 @@
+package io.github.uchagani.playwright.assertions;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Stops a {@link SoftAssertions} instance from running further assertions once too many have failed, bounding the
+ * time spent on a page that is clearly broken. Assertions that are not run are counted as skipped.
+ * <p>
+ * The assertions of a group also count towards the limits of its parent, and a group stops once either its own or a
+ * parent's limit is reached. Skipped assertions are only counted by the group that skipped them.
+ */
+class FailFast {
+    private final Integer maxFailures;
+    private final Integer maxConsecutiveFailures;
+    private final AtomicInteger failures = new AtomicInteger();
+    private final AtomicInteger consecutiveFailures = new AtomicInteger();
+    private final AtomicInteger skipped = new AtomicInteger();
+    private final FailFast parent;
+
+    FailFast(Integer maxFailures, Integer maxConsecutiveFailures) {
+        this(maxFailures, maxConsecutiveFailures, null);
+    }
+
+    private FailFast(Integer maxFailures, Integer maxConsecutiveFailures, FailFast parent) {
+        this.maxFailures = maxFailures;
+        this.maxConsecutiveFailures = maxConsecutiveFailures;
+        this.parent = parent;
+    }
+
+    /**
+     * Returns an instance for a group of this one, with its own counts and the given limits, {@code null} meaning no
+     * limit of its own. Its assertions also count towards the limits of this instance.
+     */
+    FailFast withLimits(Integer maxFailures, Integer maxConsecutiveFailures) {
+        return new FailFast(maxFailures, maxConsecutiveFailures, this);
+    }
+
+    boolean isTripped() {
+        return (maxFailures != null && failures.get() >= maxFailures)
+                || (maxConsecutiveFailures != null && consecutiveFailures.get() >= maxConsecutiveFailures)
+                || (parent != null && parent.isTripped());
+    }
+
+    /**
+     * Returns {@code true}, and counts the assertion as skipped, if the next assertion should not be run.
+     */
+    boolean skip() {
+        if (!isTripped()) {
+            return false;
+        }
+        skipped.incrementAndGet();
+        return true;
+    }
+
+    void skipped(int count) {
+        skipped.addAndGet(count);
+    }
+
+    void passed() {
+        consecutiveFailures.set(0);
+        if (parent != null) {
+            parent.passed();
+        }
+    }
+
+    void failed() {
+        failures.incrementAndGet();
+        consecutiveFailures.incrementAndGet();
+        if (parent != null) {
+            parent.failed();
+        }
+    }
+
+    int skippedCount() {
+        return skipped.get();
+    }
+}
@@ -0,0 +1,132 @@
+package io.github.uchagani.playwright.assertions;
+
+import com.microsoft.playwright.Locator;
+import com.microsoft.playwright.Page;
+import com.microsoft.playwright.PlaywrightException;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Queue;
+import java.util.WeakHashMap;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Captures a screenshot of the page and the HTML of the target when an assertion fails. Playwright objects may only
+ * be used from the thread that made the assertion, so the capture happens there, but the files are written by a
+ * background thread. When its queue is full the writes happen on the asserting thread instead. A capture identical to
+ * the previous one on the same page is not written again, the failure refers to the existing file.
+ */
+class FailureArtifacts {
+    static final int QUEUE_CAPACITY = 64;
+    private static final String OUTER_HTML = "elements => elements.map(e => e.outerHTML).join('\\n')";
+
+    private final Path directory;
+    private final Map<Page, Capture> lastCaptures = Collections.synchronizedMap(new WeakHashMap<>());
+    private final Queue<Future<?>> pendingWrites = new ConcurrentLinkedQueue<>();
+
+    FailureArtifacts(Path directory) {
+        this.directory = directory;
+    }
+
+    /**
+     * Captures the artifacts for a failed assertion on {@code target} and returns a note with their paths, or
+     * {@code null} if there is nothing to capture.
+     */
+    String capture(Object target) {
+        Page page = AdaptiveTimeouts.pageOf(target);
+        if (page == null) {
+            return null;
+        }
+        byte[] screenshot;
+        String html;
+        try {
+            screenshot = page.screenshot();
+            html = target instanceof Locator ? (String) ((Locator) target).evaluateAll(OUTER_HTML) : page.content();
+        } catch (PlaywrightException e) {
+            // The page may have been closed or navigated away, the failure is reported without artifacts.
+            return null;
+        }
+
+        Capture last = lastCaptures.get(page);
+        Path screenshotPath = last != null && Arrays.equals(last.screenshot, screenshot)
+                ? last.screenshotPath
+                : write(screenshot, ".png");
+        Path htmlPath = last != null && last.html.equals(html)
+                ? last.htmlPath
+                : write(html.getBytes(StandardCharsets.UTF_8), ".html");
+        lastCaptures.put(page, new Capture(screenshot, screenshotPath, html, htmlPath));
+        return "Screenshot: " + screenshotPath + "\nDOM snapshot: " + htmlPath;
+    }
+
+    /**
+     * Waits until all artifacts captured so far have been written.
+     */
+    void flush() {
+        for (Future<?> write; (write = pendingWrites.poll()) != null; ) {
+            try {
+                write.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new PlaywrightException("Interrupted while writing failure artifacts", e);
+            } catch (ExecutionException e) {
+                throw new PlaywrightException("Failed to write failure artifact", e.getCause());
+            }
+        }
+    }
+
+    private Path write(byte[] content, String suffix) {
+        Path path;
+        try {
+            Files.createDirectories(directory);
+            // Creating the file up front reserves a unique name for the report.
+            path = Files.createTempFile(directory, "soft-assertion-", suffix);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        pendingWrites.add(Writer.EXECUTOR.submit(() -> {
+            try {
+                Files.write(path, content);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }));
+        return path;
+    }
+
+    private static class Capture {
+        final byte[] screenshot;
+        final Path screenshotPath;
+        final String html;
+        final Path htmlPath;
+
+        Capture(byte[] screenshot, Path screenshotPath, String html, Path htmlPath) {
+            this.screenshot = screenshot;
+            this.screenshotPath = screenshotPath;
+            this.html = html;
+            this.htmlPath = htmlPath;
+        }
+    }
+
+    private static class Writer {
+        static final ExecutorService EXECUTOR = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(QUEUE_CAPACITY),
+                task -> {
+                    Thread thread = new Thread(task, "soft-assertions-artifacts");
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.CallerRunsPolicy());
+    }
+}
@@ -0,0 +1,98 @@
+package io.github.uchagani.playwright.assertions;
+
+import org.opentest4j.AssertionFailedError;
+import org.opentest4j.ValueWrapper;
+
+import java.security.CodeSource;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Compact, immutable replacement for a captured failure: its message, the string form of its expected and actual
+ * values and the single stack frame that made the assertion. The original exception, its cause and its full stack
+ * trace are not retained.
+ */
+final class FailureRecord extends AssertionFailedError {
+    private static final long serialVersionUID = 1L;
+
+    private static final CodeSource LIBRARY = FailureRecord.class.getProtectionDomain().getCodeSource();
+    private static final Map<String, Boolean> LIBRARY_CLASSES = new ConcurrentHashMap<>();
+
+    private FailureRecord(String message, String expected, String actual, StackTraceElement callSite) {
+        super(message, expected, actual);
+        setStackTrace(callSite == null ? new StackTraceElement[0] : new StackTraceElement[]{callSite});
+    }
+
+    private FailureRecord(String message, StackTraceElement callSite) {
+        super(message);
+        setStackTrace(callSite == null ? new StackTraceElement[0] : new StackTraceElement[]{callSite});
+    }
+
+    static FailureRecord of(Throwable failure) {
+        if (failure instanceof FailureRecord) {
+            return (FailureRecord) failure;
+        }
+        StackTraceElement callSite = callSite(failure.getStackTrace());
+        if (failure instanceof AssertionFailedError) {
+            AssertionFailedError assertionFailure = (AssertionFailedError) failure;
+            if (assertionFailure.isExpectedDefined() || assertionFailure.isActualDefined()) {
+                return new FailureRecord(failure.getMessage(),
+                        describe(assertionFailure.isExpectedDefined() ? assertionFailure.getExpected() : null),
+                        describe(assertionFailure.isActualDefined() ? assertionFailure.getActual() : null),
+                        callSite);
+            }
+        }
+        return new FailureRecord(failure.getMessage(), callSite);
+    }
+
+    @Override
+    public synchronized Throwable fillInStackTrace() {
+        // The call site is set explicitly, walking the stack here is the cost this class exists to avoid.
+        return this;
+    }
+
+    private static String describe(ValueWrapper value) {
+        return value == null ? null : value.getStringRepresentation();
+    }
+
+    /**
+     * The first frame outside Playwright and this library, i.e. the code that made the assertion.
+     */
+    static StackTraceElement callSite(StackTraceElement[] stackTrace) {
+        int lastLibraryFrame = -1;
+        for (int i = 0; i < stackTrace.length; i++) {
+            if (isLibraryFrame(stackTrace[i])) {
+                lastLibraryFrame = i;
+            }
+        }
+        for (int i = lastLibraryFrame + 1; i < stackTrace.length; i++) {
+            String className = stackTrace[i].getClassName();
+            if (!className.startsWith("com.microsoft.playwright.") && !className.startsWith("java.")
+                    && !className.startsWith("jdk.") && !className.startsWith("sun.")) {
+                return stackTrace[i];
+            }
+        }
+        return stackTrace.length == 0 ? null : stackTrace[stackTrace.length - 1];
+    }
+
+    private static boolean isLibraryFrame(StackTraceElement frame) {
+        String className = frame.getClassName();
+        if (className.startsWith("com.microsoft.playwright.")) {
+            return true;
+        }
+        if (!className.startsWith(FailureRecord.class.getPackage().getName() + ".")) {
+            return false;
+        }
+        return LIBRARY_CLASSES.computeIfAbsent(className, FailureRecord::isLibraryClass);
+    }
+
+    private static boolean isLibraryClass(String className) {
+        try {
+            Class<?> type = Class.forName(className, false, FailureRecord.class.getClassLoader());
+            return Objects.equals(LIBRARY, type.getProtectionDomain().getCodeSource());
+        } catch (ClassNotFoundException | LinkageError | SecurityException e) {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,234 @@
+package io.github.uchagani.playwright.assertions;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Formats the failures reported by {@link SoftAssertions#assertAll()}, applying the configured length limits. The
+ * failures of {@link SoftAssertions#group groups} follow those made directly on the instance, each group under a
+ * header with its own counts and indented one level deeper than its parent.
+ */
+class FailureReport {
+    static final String SEPARATOR = "----------------------------------------\n";
+    private static final String INDENT = "    ";
+
+    private final Integer maxFailureMessageLength;
+    private final Integer maxReportLength;
+
+    FailureReport(Integer maxFailureMessageLength, Integer maxReportLength) {
+        this.maxFailureMessageLength = maxFailureMessageLength;
+        this.maxReportLength = maxReportLength;
+    }
+
+    String format(Section root) {
+        StringBuilder message = new StringBuilder();
+        message
+                .append(header(root))
+                .append(":");
+
+        List<Entry> entries = entries(root);
+        int reported = 0;
+        for (Entry entry : entries) {
+            if (isFull(message.length())) {
+                message.append("\n").append(SEPARATOR).append(omitted(root.failureCount() - reported));
+                break;
+            }
+            long remaining = remaining(message.length());
+            boolean crossesLimit = shownLength(entry) > remaining;
+            String text = entry.failure ? truncate(entry.text, remaining) : cut(entry.text, remaining);
+            message.append("\n");
+            message.append(indent(SEPARATOR + text, entry.depth));
+            if (entry.failure) {
+                reported++;
+            }
+            if (crossesLimit) {
+                if (reported < root.failureCount()) {
+                    message.append("\n").append(SEPARATOR).append(omitted(root.failureCount() - reported));
+                }
+                break;
+            }
+        }
+
+        return message.toString();
+    }
+
+    /**
+     * Streams the failures of {@code root} to {@code sink}. A sink receives the failures of all groups as one list,
+     * each message prefixed with the path of its group, e.g. {@code checkout > payment: }.
+     */
+    void writeTo(ReportSink sink, Section root) {
+        int failureCount = root.failureCount();
+        sink.begin(failureCount, root.skippedCount(), root.reusedCount());
+        long written = 0;
+        int index = 0;
+        int omitted = 0;
+        for (Entry entry : entries(root)) {
+            if (!entry.failure) {
+                continue;
+            }
+            if (isFull(written)) {
+                omitted = failureCount - index;
+                break;
+            }
+            String prefix = entry.path.isEmpty() ? "" : entry.path + ": ";
+            long remaining = Math.max(0, remaining(written) - prefix.length());
+            boolean crossesLimit = shownLength(entry) > remaining;
+            String message = prefix + truncate(entry.text, remaining);
+            sink.failure(++index, message);
+            written += message.length();
+            if (crossesLimit) {
+                omitted = failureCount - index;
+                break;
+            }
+        }
+        sink.end(omitted);
+    }
+
+    static String summary(int failureCount, int skipped, int reused) {
+        return header(failureCount, skipped, reused) + ", see the soft assertion report for details.";
+    }
+
+    static String header(int failureCount, int skipped) {
+        String header = failureCount + " assertion(s) failed";
+        return skipped == 0 ? header : header + ", " + skipped + " skipped after reaching the failure limit";
+    }
+
+    static String header(int failureCount, int skipped, int reused) {
+        String header = header(failureCount, skipped);
+        return reused == 0 ? header : header + ", " + reused + " duplicate(s) reused";
+    }
+
+    private static String header(Section section) {
+        return header(section.failureCount(), section.skippedCount(), section.reusedCount());
+    }
+
+    static String omitted(int count) {
+        return "... " + count + " more failure(s) not shown";
+    }
+
+    private static List<Entry> entries(Section root) {
+        List<Entry> entries = new ArrayList<>();
+        addEntries(root, 0, "", entries);
+        return entries;
+    }
+
+    private static void addEntries(Section section, int depth, String path, List<Entry> entries) {
+        for (Throwable failure : section.failures) {
+            entries.add(new Entry(depth, path, failure.getMessage(), true));
+        }
+        for (Section group : section.groups) {
+            if (group.failureCount() == 0 && group.skippedCount() == 0) {
+                continue;
+            }
+            String header = group.name + ": " + header(group)
+                    + (group.failureCount() == 0 ? "" : ":");
+            entries.add(new Entry(depth, path, header, false));
+            addEntries(group, depth + 1, path.isEmpty() ? group.name : path + " > " + group.name, entries);
+        }
+    }
+
+    private static String indent(String text, int depth) {
+        if (depth == 0 || text == null) {
+            return text;
+        }
+        StringBuilder prefix = new StringBuilder();
+        for (int i = 0; i < depth; i++) {
+            prefix.append(INDENT);
+        }
+        return prefix + text.replace("\n", "\n" + prefix);
+    }
+
+    private boolean isFull(long length) {
+        return maxReportLength != null && length >= maxReportLength;
+    }
+
+    /**
+     * Number of characters left for the report once {@code length} characters are written.
+     */
+    private long remaining(long length) {
+        return maxReportLength == null ? Long.MAX_VALUE : Math.max(0, maxReportLength - length);
+    }
+
+    /**
+     * Number of characters of the text of {@code entry} that the message length limit lets through.
+     */
+    private long shownLength(Entry entry) {
+        if (entry.text == null) {
+            return 0;
+        }
+        return entry.failure && maxFailureMessageLength != null
+                ? Math.min(maxFailureMessageLength, entry.text.length()) : entry.text.length();
+    }
+
+    /**
+     * Cuts a failure message to the message length limit, or to {@code remaining} characters if fewer, so that a
+     * single oversized message does not go beyond the report length limit.
+     */
+    private String truncate(String message, long remaining) {
+        return cut(message, maxFailureMessageLength == null ? remaining : Math.min(maxFailureMessageLength, remaining));
+    }
+
+    private static String cut(String message, long length) {
+        if (message == null || message.length() <= length) {
+            return message;
+        }
+        return message.substring(0, (int) length) + "... (" + (message.length() - length) + " more characters)";
+    }
+
+    /**
+     * The failures of a {@link SoftAssertions} instance or one of its groups.
+     */
+    static class Section {
+        final String name;
+        final List<Throwable> failures;
+        final int skipped;
+        final int reused;
+        final List<Section> groups;
+
+        Section(String name, List<Throwable> failures, int skipped, int reused, List<Section> groups) {
+            this.name = name;
+            this.failures = failures;
+            this.skipped = skipped;
+            this.reused = reused;
+            this.groups = groups;
+        }
+
+        int failureCount() {
+            int count = failures.size();
+            for (Section group : groups) {
+                count += group.failureCount();
+            }
+            return count;
+        }
+
+        int skippedCount() {
+            int count = skipped;
+            for (Section group : groups) {
+                count += group.skippedCount();
+            }
+            return count;
+        }
+
+        int reusedCount() {
+            int count = reused;
+            for (Section group : groups) {
+                count += group.reusedCount();
+            }
+            return count;
+        }
+    }
+
+    private static class Entry {
+        final int depth;
+        final String path;
+        final String text;
+        final boolean failure;
+
+        Entry(int depth, String path, String text, boolean failure) {
+            this.depth = depth;
+            this.path = path;
+            this.text = text;
+            this.failure = failure;
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package io.github.uchagani.playwright.assertions;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * The executor {@link SoftAssertions#assertThatEach} uses when none is configured: one virtual thread per target when
+ * running on Java 21 or later, otherwise a pool bounded by the number of processors. Virtual threads are looked up
+ * reflectively so the library keeps targeting Java 8.
+ */
+final class FanOutExecutors {
+    private FanOutExecutors() {
+    }
+
+    static Executor defaultExecutor() {
+        return Holder.DEFAULT;
+    }
+
+    private static class Holder {
+        static final Executor DEFAULT = create();
+
+        private static Executor create() {
+            try {
+                Method factory = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+                return (ExecutorService) factory.invoke(null);
+            } catch (ReflectiveOperationException e) {
+                AtomicInteger count = new AtomicInteger();
+                return Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors(), task -> {
+                    Thread thread = new Thread(task, "soft-assertions-" + count.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+            }
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package io.github.uchagani.playwright.assertions;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * A simple JSON path: {@code $.store.books[0]['title']}. Supports member names after a dot or in quotes within
+ * brackets, and array indexes in brackets. The leading {@code $} is optional.
+ */
+final class JsonPath {
+    private final String path;
+    private final List<Object> segments;
+
+    private JsonPath(String path, List<Object> segments) {
+        this.path = path;
+        this.segments = segments;
+    }
+
+    static JsonPath parse(String path) {
+        List<Object> segments = new ArrayList<>();
+        int i = path.startsWith("$") ? 1 : 0;
+        if (i == 0 && !path.isEmpty() && path.charAt(0) != '.' && path.charAt(0) != '[') {
+            // A bare first member name, e.g. "store.books".
+            i = readName(path, 0, segments);
+        }
+        while (i < path.length()) {
+            char c = path.charAt(i);
+            if (c == '.') {
+                int end = readName(path, i + 1, segments);
+                if (end == i + 1) {
+                    throw invalid(path, "empty member name at " + i);
+                }
+                i = end;
+            } else if (c == '[') {
+                int close = path.indexOf(']', i);
+                if (close < 0) {
+                    throw invalid(path, "missing ']' after " + i);
+                }
+                String inside = path.substring(i + 1, close).trim();
+                if (inside.length() >= 2 && (inside.charAt(0) == '\'' || inside.charAt(0) == '"')
+                        && inside.charAt(inside.length() - 1) == inside.charAt(0)) {
+                    segments.add(inside.substring(1, inside.length() - 1));
+                } else {
+                    try {
+                        segments.add(Integer.parseInt(inside));
+                    } catch (NumberFormatException e) {
+                        throw invalid(path, "expected an index or a quoted name in " + path.substring(i, close + 1));
+                    }
+                }
+                i = close + 1;
+            } else {
+                throw invalid(path, "unexpected '" + c + "' at " + i);
+            }
+        }
+        return new JsonPath(path, Collections.unmodifiableList(segments));
+    }
+
+    /**
+     * Returns the element at this path, or {@code null} if there is none. A JSON {@code null} is returned as
+     * {@link com.google.gson.JsonNull}.
+     */
+    JsonElement find(JsonElement root) {
+        JsonElement current = root;
+        for (Object segment : segments) {
+            if (segment instanceof Integer) {
+                if (!current.isJsonArray()) {
+                    return null;
+                }
+                JsonArray array = current.getAsJsonArray();
+                int index = (Integer) segment;
+                if (index < 0 || index >= array.size()) {
+                    return null;
+                }
+                current = array.get(index);
+            } else {
+                if (!current.isJsonObject()) {
+                    return null;
+                }
+                JsonObject object = current.getAsJsonObject();
+                current = object.get((String) segment);
+                if (current == null) {
+                    return null;
+                }
+            }
+        }
+        return current;
+    }
+
+    @Override
+    public String toString() {
+        return path;
+    }
+
+    private static int readName(String path, int start, List<Object> segments) {
+        int end = start;
+        while (end < path.length() && path.charAt(end) != '.' && path.charAt(end) != '[') {
+            end++;
+        }
+        if (end > start) {
+            segments.add(path.substring(start, end));
+        }
+        return end;
+    }
+
+    private static IllegalArgumentException invalid(String path, String reason) {
+        return new IllegalArgumentException("Invalid JSON path \"" + path + "\": " + reason);
+    }
+}
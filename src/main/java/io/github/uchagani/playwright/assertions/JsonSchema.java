@@ -0,0 +1,188 @@
+package io.github.uchagani.playwright.assertions;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonPrimitive;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * Validates JSON against the commonly used subset of JSON Schema: {@code type}, {@code enum}, {@code const},
+ * {@code properties}, {@code required}, {@code additionalProperties}, {@code items}, {@code minItems},
+ * {@code maxItems}, {@code minLength}, {@code maxLength}, {@code pattern}, {@code minimum}, {@code maximum},
+ * {@code exclusiveMinimum} and {@code exclusiveMaximum}. Other keywords are ignored.
+ */
+final class JsonSchema {
+    private JsonSchema() {
+    }
+
+    /**
+     * Returns a description of every violation, empty if {@code value} matches {@code schema}.
+     */
+    static List<String> validate(JsonElement schema, JsonElement value) {
+        List<String> errors = new ArrayList<>();
+        validate(schema, value, "$", errors);
+        return errors;
+    }
+
+    private static void validate(JsonElement schemaElement, JsonElement value, String path, List<String> errors) {
+        if (schemaElement.isJsonPrimitive() && schemaElement.getAsJsonPrimitive().isBoolean()) {
+            if (!schemaElement.getAsBoolean()) {
+                errors.add(path + ": no value is allowed");
+            }
+            return;
+        }
+        if (!schemaElement.isJsonObject()) {
+            return;
+        }
+        JsonObject schema = schemaElement.getAsJsonObject();
+
+        if (schema.has("type") && !matchesType(schema.get("type"), value)) {
+            errors.add(path + ": expected type " + schema.get("type") + " but was " + typeOf(value));
+            return;
+        }
+        if (schema.has("const") && !schema.get("const").equals(value)) {
+            errors.add(path + ": expected " + schema.get("const") + " but was " + value);
+        }
+        if (schema.has("enum") && !contains(schema.getAsJsonArray("enum"), value)) {
+            errors.add(path + ": expected one of " + schema.get("enum") + " but was " + value);
+        }
+
+        if (value.isJsonObject()) {
+            validateObject(schema, value.getAsJsonObject(), path, errors);
+        } else if (value.isJsonArray()) {
+            validateArray(schema, value.getAsJsonArray(), path, errors);
+        } else if (value.isJsonPrimitive()) {
+            JsonPrimitive primitive = value.getAsJsonPrimitive();
+            if (primitive.isString()) {
+                validateString(schema, primitive.getAsString(), path, errors);
+            } else if (primitive.isNumber()) {
+                validateNumber(schema, primitive.getAsBigDecimal(), path, errors);
+            }
+        }
+    }
+
+    private static void validateObject(JsonObject schema, JsonObject value, String path, List<String> errors) {
+        if (schema.has("required")) {
+            for (JsonElement name : schema.getAsJsonArray("required")) {
+                if (!value.has(name.getAsString())) {
+                    errors.add(path + ": missing required property \"" + name.getAsString() + "\"");
+                }
+            }
+        }
+        JsonObject properties = schema.has("properties") ? schema.getAsJsonObject("properties") : new JsonObject();
+        JsonElement additional = schema.get("additionalProperties");
+        for (Map.Entry<String, JsonElement> member : value.entrySet()) {
+            String memberPath = path + "." + member.getKey();
+            if (properties.has(member.getKey())) {
+                validate(properties.get(member.getKey()), member.getValue(), memberPath, errors);
+            } else if (additional != null) {
+                if (additional.isJsonPrimitive() && !additional.getAsBoolean()) {
+                    errors.add(path + ": unexpected property \"" + member.getKey() + "\"");
+                } else {
+                    validate(additional, member.getValue(), memberPath, errors);
+                }
+            }
+        }
+    }
+
+    private static void validateArray(JsonObject schema, JsonArray value, String path, List<String> errors) {
+        if (schema.has("minItems") && value.size() < schema.get("minItems").getAsInt()) {
+            errors.add(path + ": expected at least " + schema.get("minItems") + " items but found " + value.size());
+        }
+        if (schema.has("maxItems") && value.size() > schema.get("maxItems").getAsInt()) {
+            errors.add(path + ": expected at most " + schema.get("maxItems") + " items but found " + value.size());
+        }
+        if (schema.has("items")) {
+            for (int i = 0; i < value.size(); i++) {
+                validate(schema.get("items"), value.get(i), path + "[" + i + "]", errors);
+            }
+        }
+    }
+
+    private static void validateString(JsonObject schema, String value, String path, List<String> errors) {
+        int length = value.codePointCount(0, value.length());
+        if (schema.has("minLength") && length < schema.get("minLength").getAsInt()) {
+            errors.add(path + ": expected at least " + schema.get("minLength") + " characters but found " + length);
+        }
+        if (schema.has("maxLength") && length > schema.get("maxLength").getAsInt()) {
+            errors.add(path + ": expected at most " + schema.get("maxLength") + " characters but found " + length);
+        }
+        if (schema.has("pattern") && !Pattern.compile(schema.get("pattern").getAsString()).matcher(value).find()) {
+            errors.add(path + ": \"" + value + "\" does not match pattern " + schema.get("pattern"));
+        }
+    }
+
+    private static void validateNumber(JsonObject schema, BigDecimal value, String path, List<String> errors) {
+        if (schema.has("minimum") && value.compareTo(schema.get("minimum").getAsBigDecimal()) < 0) {
+            errors.add(path + ": expected at least " + schema.get("minimum") + " but was " + value);
+        }
+        if (schema.has("maximum") && value.compareTo(schema.get("maximum").getAsBigDecimal()) > 0) {
+            errors.add(path + ": expected at most " + schema.get("maximum") + " but was " + value);
+        }
+        if (isNumber(schema.get("exclusiveMinimum"))
+                && value.compareTo(schema.get("exclusiveMinimum").getAsBigDecimal()) <= 0) {
+            errors.add(path + ": expected more than " + schema.get("exclusiveMinimum") + " but was " + value);
+        }
+        if (isNumber(schema.get("exclusiveMaximum"))
+                && value.compareTo(schema.get("exclusiveMaximum").getAsBigDecimal()) >= 0) {
+            errors.add(path + ": expected less than " + schema.get("exclusiveMaximum") + " but was " + value);
+        }
+    }
+
+    private static boolean matchesType(JsonElement type, JsonElement value) {
+        if (type.isJsonArray()) {
+            for (JsonElement alternative : type.getAsJsonArray()) {
+                if (matchesType(alternative, value)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+        String name = type.getAsString();
+        String actual = typeOf(value);
+        if (name.equals("number")) {
+            return actual.equals("number") || actual.equals("integer");
+        }
+        return name.equals(actual);
+    }
+
+    private static String typeOf(JsonElement value) {
+        if (value.isJsonNull()) {
+            return "null";
+        }
+        if (value.isJsonObject()) {
+            return "object";
+        }
+        if (value.isJsonArray()) {
+            return "array";
+        }
+        JsonPrimitive primitive = value.getAsJsonPrimitive();
+        if (primitive.isBoolean()) {
+            return "boolean";
+        }
+        if (primitive.isNumber()) {
+            BigDecimal number = primitive.getAsBigDecimal();
+            return number.signum() == 0 || number.stripTrailingZeros().scale() <= 0 ? "integer" : "number";
+        }
+        return "string";
+    }
+
+    private static boolean contains(JsonArray values, JsonElement value) {
+        for (JsonElement candidate : values) {
+            if (candidate.equals(value)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean isNumber(JsonElement element) {
+        return element != null && element.isJsonPrimitive() && element.getAsJsonPrimitive().isNumber();
+    }
+}
@@ -0,0 +1,55 @@
+package io.github.uchagani.playwright.assertions;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonPrimitive;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Converts parsed JSON to plain Java values, so callers do not depend on the JSON library Playwright happens to use.
+ */
+final class JsonValues {
+    private JsonValues() {
+    }
+
+    /**
+     * Returns {@code null}, a {@code String}, a {@code Boolean}, a {@code Long} for integral numbers that fit, a
+     * {@code Double} for other numbers, a {@code List} or a {@code Map} with the members in document order.
+     */
+    static Object toJava(JsonElement element) {
+        if (element == null || element.isJsonNull()) {
+            return null;
+        }
+        if (element.isJsonPrimitive()) {
+            JsonPrimitive primitive = element.getAsJsonPrimitive();
+            if (primitive.isBoolean()) {
+                return primitive.getAsBoolean();
+            }
+            if (primitive.isNumber()) {
+                BigDecimal number = primitive.getAsBigDecimal();
+                try {
+                    return number.longValueExact();
+                } catch (ArithmeticException e) {
+                    return number.doubleValue();
+                }
+            }
+            return primitive.getAsString();
+        }
+        if (element.isJsonArray()) {
+            List<Object> list = new ArrayList<>();
+            for (JsonElement item : element.getAsJsonArray()) {
+                list.add(toJava(item));
+            }
+            return list;
+        }
+        Map<String, Object> map = new LinkedHashMap<>();
+        for (Map.Entry<String, JsonElement> member : element.getAsJsonObject().entrySet()) {
+            map.put(member.getKey(), toJava(member.getValue()));
+        }
+        return map;
+    }
+}
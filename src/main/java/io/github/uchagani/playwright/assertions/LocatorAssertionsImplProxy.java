@@ -4,193 +4,222 @@ import com.microsoft.playwright.Locator;
 import com.microsoft.playwright.assertions.LocatorAssertions;
 import com.microsoft.playwright.impl.LocatorAssertionsImpl;
 
-import java.util.List;
 import java.util.regex.Pattern;
 
 class LocatorAssertionsImplProxy extends SoftAssertionsBase implements LocatorAssertions {
     private final LocatorAssertionsImpl locatorAssertions;
+    private volatile LocatorAssertionsImplProxy negation;
 
-    LocatorAssertionsImplProxy(Locator locator, List<Throwable> results) {
-        this(results, new LocatorAssertionsImpl(locator));
+    LocatorAssertionsImplProxy(Locator locator, SoftAssertionsImpl softly) {
+        this(softly, locator, false, new LocatorAssertionsImpl(locator));
     }
 
-    private LocatorAssertionsImplProxy(List<Throwable> results, LocatorAssertionsImpl locatorAssertions) {
-        super(results);
+    private LocatorAssertionsImplProxy(SoftAssertionsImpl softly, Locator locator, boolean negated, LocatorAssertionsImpl locatorAssertions) {
+        super(softly, locator, negated);
         this.locatorAssertions = locatorAssertions;
     }
 
     @Override
     public LocatorAssertions not() {
-        return new LocatorAssertionsImplProxy(super.results, (LocatorAssertionsImpl) locatorAssertions.not());
+        LocatorAssertionsImplProxy not = negation;
+        if (not == null) {
+            not = new LocatorAssertionsImplProxy(super.softly, (Locator) target, !negated, (LocatorAssertionsImpl) locatorAssertions.not());
+            not.negation = this;
+            negation = not;
+        }
+        return not;
     }
 
     @Override
     public void isAttached(IsAttachedOptions isAttachedOptions) {
-        assertAndCaptureResult(() -> locatorAssertions.isAttached(isAttachedOptions));
+        assertAndCaptureResult("isAttached", isAttachedOptions, IsAttachedOptions::new, locatorAssertions::isAttached);
     }
 
     @Override
     public void isChecked(IsCheckedOptions isCheckedOptions) {
-        assertAndCaptureResult(() -> locatorAssertions.isChecked(isCheckedOptions));
+        assertAndCaptureResult("isChecked", isCheckedOptions, IsCheckedOptions::new, locatorAssertions::isChecked);
     }
 
     @Override
     public void isDisabled(IsDisabledOptions isDisabledOptions) {
-        assertAndCaptureResult(() -> locatorAssertions.isDisabled(isDisabledOptions));
+        assertAndCaptureResult("isDisabled", isDisabledOptions, IsDisabledOptions::new, locatorAssertions::isDisabled);
     }
 
     @Override
     public void isEditable(IsEditableOptions isEditableOptions) {
-        assertAndCaptureResult(() -> locatorAssertions.isEditable(isEditableOptions));
+        assertAndCaptureResult("isEditable", isEditableOptions, IsEditableOptions::new, locatorAssertions::isEditable);
     }
 
     @Override
     public void isEmpty(IsEmptyOptions isEmptyOptions) {
-        assertAndCaptureResult(() -> locatorAssertions.isEmpty(isEmptyOptions));
+        assertAndCaptureResult("isEmpty", isEmptyOptions, IsEmptyOptions::new, locatorAssertions::isEmpty);
     }
 
     @Override
     public void isEnabled(IsEnabledOptions isEnabledOptions) {
-        assertAndCaptureResult(() -> locatorAssertions.isEnabled(isEnabledOptions));
+        assertAndCaptureResult("isEnabled", isEnabledOptions, IsEnabledOptions::new, locatorAssertions::isEnabled);
     }
 
     @Override
     public void isFocused(IsFocusedOptions isFocusedOptions) {
-        assertAndCaptureResult(() -> locatorAssertions.isFocused(isFocusedOptions));
+        assertAndCaptureResult("isFocused", isFocusedOptions, IsFocusedOptions::new, locatorAssertions::isFocused);
     }
 
     @Override
     public void isHidden(IsHiddenOptions isHiddenOptions) {
-        assertAndCaptureResult(() -> locatorAssertions.isHidden(isHiddenOptions));
+        assertAndCaptureResult("isHidden", isHiddenOptions, IsHiddenOptions::new, locatorAssertions::isHidden);
     }
 
     @Override
     public void isInViewport(IsInViewportOptions isInViewportOptions) {
-        assertAndCaptureResult(() -> locatorAssertions.isInViewport(isInViewportOptions));
+        assertAndCaptureResult("isInViewport", isInViewportOptions, IsInViewportOptions::new,
+                locatorAssertions::isInViewport);
     }
 
     @Override
     public void isVisible(IsVisibleOptions isVisibleOptions) {
-        assertAndCaptureResult(() -> locatorAssertions.isVisible(isVisibleOptions));
+        assertAndCaptureResult("isVisible", isVisibleOptions, IsVisibleOptions::new, locatorAssertions::isVisible);
     }
 
     @Override
     public void containsText(String s, ContainsTextOptions containsTextOptions) {
-        assertAndCaptureResult(() -> locatorAssertions.containsText(s, containsTextOptions));
+        assertAndCaptureResult("containsText", containsTextOptions, ContainsTextOptions::new,
+                o -> locatorAssertions.containsText(s, o), s);
     }
 
     @Override
     public void containsText(Pattern pattern, ContainsTextOptions containsTextOptions) {
-        assertAndCaptureResult(() -> locatorAssertions.containsText(pattern, containsTextOptions));
+        assertAndCaptureResult("containsText", containsTextOptions, ContainsTextOptions::new,
+                o -> locatorAssertions.containsText(pattern, o), pattern);
     }
 
     @Override
     public void containsText(String[] strings, ContainsTextOptions containsTextOptions) {
-        assertAndCaptureResult(() -> locatorAssertions.containsText(strings, containsTextOptions));
+        assertAndCaptureResult("containsText", containsTextOptions, ContainsTextOptions::new,
+                o -> locatorAssertions.containsText(strings, o), (Object) strings);
     }
 
     @Override
     public void containsText(Pattern[] patterns, ContainsTextOptions containsTextOptions) {
-        assertAndCaptureResult(() -> locatorAssertions.containsText(patterns, containsTextOptions));
+        assertAndCaptureResult("containsText", containsTextOptions, ContainsTextOptions::new,
+                o -> locatorAssertions.containsText(patterns, o), (Object) patterns);
     }
 
     @Override
     public void hasAttribute(String s, String s1, HasAttributeOptions hasAttributeOptions) {
-        assertAndCaptureResult(() -> locatorAssertions.hasAttribute(s, s1, hasAttributeOptions));
+        assertAndCaptureResult("hasAttribute", hasAttributeOptions, HasAttributeOptions::new,
+                o -> locatorAssertions.hasAttribute(s, s1, o), s, s1);
     }
 
     @Override
     public void hasAttribute(String s, Pattern pattern, HasAttributeOptions hasAttributeOptions) {
-        assertAndCaptureResult(() -> locatorAssertions.hasAttribute(s, pattern, hasAttributeOptions));
+        assertAndCaptureResult("hasAttribute", hasAttributeOptions, HasAttributeOptions::new,
+                o -> locatorAssertions.hasAttribute(s, pattern, o), s, pattern);
     }
 
     @Override
     public void hasClass(String s, HasClassOptions hasClassOptions) {
-        assertAndCaptureResult(() -> locatorAssertions.hasClass(s, hasClassOptions));
+        assertAndCaptureResult("hasClass", hasClassOptions, HasClassOptions::new,
+                o -> locatorAssertions.hasClass(s, o), s);
     }
 
     @Override
     public void hasClass(Pattern pattern, HasClassOptions hasClassOptions) {
-        assertAndCaptureResult(() -> locatorAssertions.hasClass(pattern, hasClassOptions));
+        assertAndCaptureResult("hasClass", hasClassOptions, HasClassOptions::new,
+                o -> locatorAssertions.hasClass(pattern, o), pattern);
     }
 
     @Override
     public void hasClass(String[] strings, HasClassOptions hasClassOptions) {
-        assertAndCaptureResult(() -> locatorAssertions.hasClass(strings, hasClassOptions));
+        assertAndCaptureResult("hasClass", hasClassOptions, HasClassOptions::new,
+                o -> locatorAssertions.hasClass(strings, o), (Object) strings);
     }
 
     @Override
     public void hasClass(Pattern[] patterns, HasClassOptions hasClassOptions) {
-        assertAndCaptureResult(() -> locatorAssertions.hasClass(patterns, hasClassOptions));
+        assertAndCaptureResult("hasClass", hasClassOptions, HasClassOptions::new,
+                o -> locatorAssertions.hasClass(patterns, o), (Object) patterns);
     }
 
     @Override
     public void hasCount(int i, HasCountOptions hasCountOptions) {
-        assertAndCaptureResult(() -> locatorAssertions.hasCount(i, hasCountOptions));
+        assertAndCaptureResult("hasCount", hasCountOptions, HasCountOptions::new,
+                o -> locatorAssertions.hasCount(i, o), i);
     }
 
     @Override
     public void hasCSS(String s, String s1, HasCSSOptions hasCSSOptions) {
-        assertAndCaptureResult(() -> locatorAssertions.hasCSS(s, s1, hasCSSOptions));
+        assertAndCaptureResult("hasCSS", hasCSSOptions, HasCSSOptions::new,
+                o -> locatorAssertions.hasCSS(s, s1, o), s, s1);
     }
 
     @Override
     public void hasCSS(String s, Pattern pattern, HasCSSOptions hasCSSOptions) {
-        assertAndCaptureResult(() -> locatorAssertions.hasCSS(s, pattern, hasCSSOptions));
+        assertAndCaptureResult("hasCSS", hasCSSOptions, HasCSSOptions::new,
+                o -> locatorAssertions.hasCSS(s, pattern, o), s, pattern);
     }
 
     @Override
     public void hasId(String s, HasIdOptions hasIdOptions) {
-        assertAndCaptureResult(() -> locatorAssertions.hasId(s, hasIdOptions));
+        assertAndCaptureResult("hasId", hasIdOptions, HasIdOptions::new, o -> locatorAssertions.hasId(s, o), s);
     }
 
     @Override
     public void hasId(Pattern pattern, HasIdOptions hasIdOptions) {
-        assertAndCaptureResult(() -> locatorAssertions.hasId(pattern, hasIdOptions));
+        assertAndCaptureResult("hasId", hasIdOptions, HasIdOptions::new,
+                o -> locatorAssertions.hasId(pattern, o), pattern);
     }
 
     @Override
     public void hasJSProperty(String s, Object o, HasJSPropertyOptions hasJSPropertyOptions) {
-        assertAndCaptureResult(() -> locatorAssertions.hasJSProperty(s, o, hasJSPropertyOptions));
+        assertAndCaptureResult("hasJSProperty", hasJSPropertyOptions, HasJSPropertyOptions::new,
+                options -> locatorAssertions.hasJSProperty(s, o, options), s, o);
     }
 
     @Override
     public void hasText(String s, HasTextOptions hasTextOptions) {
-        assertAndCaptureResult(() -> locatorAssertions.hasText(s, hasTextOptions));
+        assertAndCaptureResult("hasText", hasTextOptions, HasTextOptions::new, o -> locatorAssertions.hasText(s, o), s);
     }
 
     @Override
     public void hasText(Pattern pattern, HasTextOptions hasTextOptions) {
-        assertAndCaptureResult(() -> locatorAssertions.hasText(pattern, hasTextOptions));
+        assertAndCaptureResult("hasText", hasTextOptions, HasTextOptions::new,
+                o -> locatorAssertions.hasText(pattern, o), pattern);
     }
 
     @Override
     public void hasText(String[] strings, HasTextOptions hasTextOptions) {
-        assertAndCaptureResult(() -> locatorAssertions.hasText(strings, hasTextOptions));
+        assertAndCaptureResult("hasText", hasTextOptions, HasTextOptions::new,
+                o -> locatorAssertions.hasText(strings, o), (Object) strings);
     }
 
     @Override
     public void hasText(Pattern[] patterns, HasTextOptions hasTextOptions) {
-        assertAndCaptureResult(() -> locatorAssertions.hasText(patterns, hasTextOptions));
+        assertAndCaptureResult("hasText", hasTextOptions, HasTextOptions::new,
+                o -> locatorAssertions.hasText(patterns, o), (Object) patterns);
     }
 
     @Override
     public void hasValue(String s, HasValueOptions hasValueOptions) {
-        assertAndCaptureResult(() -> locatorAssertions.hasValue(s, hasValueOptions));
+        assertAndCaptureResult("hasValue", hasValueOptions, HasValueOptions::new,
+                o -> locatorAssertions.hasValue(s, o), s);
     }
 
     @Override
     public void hasValue(Pattern pattern, HasValueOptions hasValueOptions) {
-        assertAndCaptureResult(() -> locatorAssertions.hasValue(pattern, hasValueOptions));
+        assertAndCaptureResult("hasValue", hasValueOptions, HasValueOptions::new,
+                o -> locatorAssertions.hasValue(pattern, o), pattern);
     }
 
     @Override
     public void hasValues(String[] strings, HasValuesOptions hasValuesOptions) {
-        assertAndCaptureResult(() -> locatorAssertions.hasValues(strings, hasValuesOptions));
+        assertAndCaptureResult("hasValues", hasValuesOptions, HasValuesOptions::new,
+                o -> locatorAssertions.hasValues(strings, o), (Object) strings);
     }
 
     @Override
     public void hasValues(Pattern[] patterns, HasValuesOptions hasValuesOptions) {
-        assertAndCaptureResult(() -> locatorAssertions.hasValues(patterns, hasValuesOptions));
+        assertAndCaptureResult("hasValues", hasValuesOptions, HasValuesOptions::new,
+                o -> locatorAssertions.hasValues(patterns, o), (Object) patterns);
     }
 }
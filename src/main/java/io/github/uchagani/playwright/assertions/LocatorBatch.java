@@ -0,0 +1,94 @@
+package io.github.uchagani.playwright.assertions;
+
+import com.microsoft.playwright.Locator;
+import com.microsoft.playwright.PlaywrightException;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Evaluates several simple expectations on the same locator with a single {@code evaluateAll} call.
+ * <p>
+ * The checks in the script are never more lenient than Playwright's own: single element expectations require
+ * exactly one match, and {@code isHidden} only passes when nothing matches. A batch check that does not pass is
+ * therefore not a failure; the expectation is still run through Playwright once its timeout has elapsed so that
+ * the reported outcome and message are Playwright's.
+ */
+class LocatorBatch {
+    private static final String SCRIPT = "(elements, checks) => {\n" +
+            "  const normalize = s => s.replace(/\\u200b/g, '').trim().replace(/\\s+/g, ' ');\n" +
+            "  const single = elements.length === 1 ? elements[0] : null;\n" +
+            "  const visible = e => {\n" +
+            "    const style = getComputedStyle(e);\n" +
+            "    if (style.visibility !== 'visible' || style.display === 'contents') return false;\n" +
+            "    const rect = e.getBoundingClientRect();\n" +
+            "    return rect.width > 0 && rect.height > 0;\n" +
+            "  };\n" +
+            "  return checks.map(([kind, a, b]) => {\n" +
+            "    switch (kind) {\n" +
+            "      case 'hasText': return !!single && normalize(single.textContent) === normalize(a);\n" +
+            "      case 'containsText': return !!single && normalize(single.textContent).includes(normalize(a));\n" +
+            "      case 'hasAttribute': return !!single && single.getAttribute(a) === b;\n" +
+            "      case 'isVisible': return !!single && visible(single);\n" +
+            "      case 'isHidden': return elements.length === 0;\n" +
+            "      case 'hasCount': return elements.length === Number(a);\n" +
+            "      default: return false;\n" +
+            "    }\n" +
+            "  });\n" +
+            "}";
+
+    private LocatorBatch() {
+    }
+
+    static boolean isBatchable(Expectation expectation) {
+        if (!(expectation.target instanceof Locator) || expectation.negated || !Timeouts.onlyTimeoutSet(expectation.options)) {
+            return false;
+        }
+        switch (expectation.method) {
+            case "hasText":
+            case "containsText":
+                return expectation.expected[0] instanceof String;
+            case "hasAttribute":
+                return expectation.expected[1] instanceof String;
+            case "isVisible":
+            case "isHidden":
+            case "hasCount":
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    /**
+     * Returns whether each of the expectations currently holds, or {@code null} if the locator could not be
+     * evaluated. All expectations must be {@link #isBatchable batchable} and target the same locator.
+     */
+    static boolean[] evaluate(List<Expectation> expectations) {
+        List<List<String>> checks = new ArrayList<>();
+        for (Expectation expectation : expectations) {
+            List<String> check = new ArrayList<>();
+            check.add(expectation.method);
+            for (Object expected : expectation.expected) {
+                check.add(String.valueOf(expected));
+            }
+            checks.add(check);
+        }
+
+        Object result;
+        try {
+            result = ((Locator) expectations.get(0).target).evaluateAll(SCRIPT, checks);
+        } catch (PlaywrightException e) {
+            return null;
+        }
+
+        List<?> values = result instanceof List ? (List<?>) result : null;
+        if (values == null || values.size() != expectations.size()) {
+            return null;
+        }
+        boolean[] passed = new boolean[values.size()];
+        for (int i = 0; i < passed.length; i++) {
+            passed[i] = Boolean.TRUE.equals(values.get(i));
+        }
+        return passed;
+    }
+}
@@ -0,0 +1,51 @@
+package io.github.uchagani.playwright.assertions;
+
+import com.microsoft.playwright.Locator;
+
+import java.lang.reflect.Field;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Access to the frame and selector a {@link Locator} resolves against. Playwright keeps both in package-private
+ * fields of {@code LocatorImpl}, the selector is also part of its {@code toString()}.
+ */
+final class Locators {
+    private static final String TO_STRING_PREFIX = "Locator@";
+    private static final Field FRAME = frameField();
+
+    private Locators() {
+    }
+
+    static String selector(Locator locator) {
+        String description = locator.toString();
+        return description.startsWith(TO_STRING_PREFIX) ? description.substring(TO_STRING_PREFIX.length()) : description;
+    }
+
+    static Object frame(Locator locator) {
+        if (FRAME != null && FRAME.getDeclaringClass().isInstance(locator)) {
+            try {
+                return FRAME.get(locator);
+            } catch (IllegalAccessException ignored) {
+            }
+        }
+        return locator.page();
+    }
+
+    /**
+     * Two locators with the same key match the same elements.
+     */
+    static List<Object> key(Locator locator) {
+        return Arrays.asList(frame(locator), selector(locator));
+    }
+
+    private static Field frameField() {
+        try {
+            Field field = Class.forName("com.microsoft.playwright.impl.LocatorImpl").getDeclaredField("frame");
+            field.setAccessible(true);
+            return field;
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            return null;
+        }
+    }
+}
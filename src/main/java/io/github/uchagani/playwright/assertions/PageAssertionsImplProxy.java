@@ -4,44 +4,54 @@ import com.microsoft.playwright.Page;
 import com.microsoft.playwright.assertions.PageAssertions;
 import com.microsoft.playwright.impl.PageAssertionsImpl;
 
-import java.util.List;
 import java.util.regex.Pattern;
 
 class PageAssertionsImplProxy extends SoftAssertionsBase implements PageAssertions {
     private final PageAssertionsImpl pageAssertions;
+    private volatile PageAssertionsImplProxy negation;
 
-    PageAssertionsImplProxy(Page page, List<Throwable> results) {
-        super(results);
+    PageAssertionsImplProxy(Page page, SoftAssertionsImpl softly) {
+        super(softly, page, false);
         this.pageAssertions = new PageAssertionsImpl(page);
     }
 
-    private PageAssertionsImplProxy(List<Throwable> results, PageAssertionsImpl pageAssertions) {
-        super(results);
+    private PageAssertionsImplProxy(SoftAssertionsImpl softly, Page page, boolean negated, PageAssertionsImpl pageAssertions) {
+        super(softly, page, negated);
         this.pageAssertions = pageAssertions;
     }
 
     @Override
     public PageAssertions not() {
-        return new PageAssertionsImplProxy(super.results, (PageAssertionsImpl) pageAssertions.not());
+        PageAssertionsImplProxy not = negation;
+        if (not == null) {
+            not = new PageAssertionsImplProxy(super.softly, (Page) target, !negated, (PageAssertionsImpl) pageAssertions.not());
+            not.negation = this;
+            negation = not;
+        }
+        return not;
     }
 
     @Override
     public void hasTitle(String titleOrRegExp, HasTitleOptions options) {
-        assertAndCaptureResult(() -> pageAssertions.hasTitle(titleOrRegExp, options));
+        assertAndCaptureResult("hasTitle", options, HasTitleOptions::new,
+                o -> pageAssertions.hasTitle(titleOrRegExp, o), titleOrRegExp);
     }
 
     @Override
     public void hasTitle(Pattern titleOrRegExp, HasTitleOptions options) {
-        assertAndCaptureResult(() -> pageAssertions.hasTitle(titleOrRegExp, options));
+        assertAndCaptureResult("hasTitle", options, HasTitleOptions::new,
+                o -> pageAssertions.hasTitle(titleOrRegExp, o), titleOrRegExp);
     }
 
     @Override
     public void hasURL(String urlOrRegExp, HasURLOptions options) {
-        assertAndCaptureResult(() -> pageAssertions.hasURL(urlOrRegExp, options));
+        assertAndCaptureResult("hasURL", options, HasURLOptions::new,
+                o -> pageAssertions.hasURL(urlOrRegExp, o), urlOrRegExp);
     }
 
     @Override
     public void hasURL(Pattern urlOrRegExp, HasURLOptions options) {
-        assertAndCaptureResult(() -> pageAssertions.hasURL(urlOrRegExp, options));
+        assertAndCaptureResult("hasURL", options, HasURLOptions::new,
+                o -> pageAssertions.hasURL(urlOrRegExp, o), urlOrRegExp);
     }
 }
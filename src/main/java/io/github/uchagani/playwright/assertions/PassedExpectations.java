@@ -0,0 +1,95 @@
+package io.github.uchagani.playwright.assertions;
+
+import com.microsoft.playwright.Locator;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+/**
+ * The assertions that passed recently, so that an identical assertion made again within the
+ * {@link SoftAssertions.CreateOptions#deduplicationWindow deduplication window} can pass without touching the browser.
+ * Two assertions are identical when they check the same frame and selector, or the same page, with the same method,
+ * expected values, negation and options. Options and patterns are compared by value, since Playwright's do not
+ * implement {@code equals}.
+ */
+class PassedExpectations {
+    private static final ClassValue<List<Field>> OPTION_FIELDS = new ClassValue<List<Field>>() {
+        @Override
+        protected List<Field> computeValue(Class<?> type) {
+            List<Field> fields = new ArrayList<>();
+            for (Field field : type.getFields()) {
+                if (!Modifier.isStatic(field.getModifiers())) {
+                    fields.add(field);
+                }
+            }
+            return fields;
+        }
+    };
+
+    private final long windowNanos;
+    private final Map<List<Object>, Long> passedAt = new ConcurrentHashMap<>();
+
+    PassedExpectations(double windowMillis) {
+        this.windowNanos = TimeUnit.MICROSECONDS.toNanos((long) (windowMillis * 1000));
+    }
+
+    static List<Object> key(Object target, String method, boolean negated, Object[] expected, Object options) {
+        Object targetKey = target instanceof Locator ? Locators.key((Locator) target) : target;
+        return Arrays.asList(targetKey, method, negated, valueOf(expected), optionsKey(options));
+    }
+
+    /**
+     * Whether an assertion with {@code key} passed within the deduplication window.
+     */
+    boolean isFresh(List<Object> key) {
+        Long passed = passedAt.get(key);
+        return passed != null && System.nanoTime() - passed <= windowNanos;
+    }
+
+    void passed(List<Object> key) {
+        passedAt.put(key, System.nanoTime());
+    }
+
+    void clear() {
+        passedAt.clear();
+    }
+
+    private static Object optionsKey(Object options) {
+        if (options == null) {
+            return null;
+        }
+        List<Object> key = new ArrayList<>();
+        key.add(options.getClass());
+        for (Field field : OPTION_FIELDS.get(options.getClass())) {
+            try {
+                key.add(valueOf(field.get(options)));
+            } catch (IllegalAccessException e) {
+                // Cannot be compared by value, so only the same options object is identical.
+                return options;
+            }
+        }
+        return key;
+    }
+
+    private static Object valueOf(Object value) {
+        if (value instanceof Pattern) {
+            Pattern pattern = (Pattern) value;
+            return Arrays.asList(Pattern.class, pattern.pattern(), pattern.flags());
+        }
+        if (value instanceof Object[]) {
+            List<Object> values = new ArrayList<>();
+            for (Object element : (Object[]) value) {
+                values.add(valueOf(element));
+            }
+            return values;
+        }
+        return value;
+    }
+}
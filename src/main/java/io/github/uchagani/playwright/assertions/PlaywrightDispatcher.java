@@ -0,0 +1,248 @@
+package io.github.uchagani.playwright.assertions;
+
+import com.microsoft.playwright.Page;
+import com.microsoft.playwright.PlaywrightException;
+
+import java.lang.reflect.Field;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * A thread per Playwright connection that makes every page and locator assertion submitted to it, so that soft
+ * assertions can be made from several threads at once although Playwright objects must not be used by two threads at
+ * once. Submitting threads hand their expectations over through a lock free queue and wait for the outcome. The
+ * dispatcher polls everything submitted to it together, one round of short probes at a time like
+ * {@link DeferredAssertions}, so a slow assertion does not hold up the others. It stops once idle for a while and a
+ * new one is started when needed.
+ * <p>
+ * {@link AsyncSoftAssertions Async} assertions are handed to the dispatcher of their connection too, but are not
+ * checked by its thread, because the test keeps using the connection meanwhile. Instead, the pages they are made on
+ * call back into the dispatcher through a binding every {@link DeferredAssertions#POLL_INTERVAL_MILLIS poll interval}
+ * while any of them is outstanding. Playwright runs such callbacks on the thread that is processing the messages of
+ * the connection, normally the test thread inside whatever Playwright call it is making, so the async assertions are
+ * checked while the test drives the page without two threads using the connection at once.
+ * <p>
+ * The connection is read from a package-private field of Playwright's {@code ChannelOwner}. If that is not possible,
+ * a single dispatcher serves all connections.
+ */
+final class PlaywrightDispatcher {
+    private static final long IDLE_TIMEOUT_NANOS = TimeUnit.SECONDS.toNanos(1);
+    private static final long POLL_INTERVAL_NANOS =
+            TimeUnit.MILLISECONDS.toNanos((long) DeferredAssertions.POLL_INTERVAL_MILLIS);
+    private static final Field CONNECTION = connectionField();
+    private static final Map<Object, PlaywrightDispatcher> DISPATCHERS = new ConcurrentHashMap<>();
+    private static final ThreadLocal<Boolean> DISPATCHING = new ThreadLocal<>();
+    private static final AtomicInteger COUNT = new AtomicInteger();
+    private static final String TICK_BINDING = "__playwrightSoftAssertionsTick";
+    // Calls the binding one poll interval after the previous call returned, for as long as it returns true.
+    private static final String TICKER = "(() => {\n" +
+            "  if (window !== window.top || window.__playwrightSoftAssertionsTicking) return;\n" +
+            "  window.__playwrightSoftAssertionsTicking = true;\n" +
+            "  const tick = async () => {\n" +
+            "    let more = false;\n" +
+            "    try { more = await window." + TICK_BINDING + "(); } catch (e) {}\n" +
+            "    if (more) setTimeout(tick, " + (long) DeferredAssertions.POLL_INTERVAL_MILLIS + ");\n" +
+            "    else window.__playwrightSoftAssertionsTicking = false;\n" +
+            "  };\n" +
+            "  setTimeout(tick, " + (long) DeferredAssertions.POLL_INTERVAL_MILLIS + ");\n" +
+            "})()";
+    // The async assertions with outstanding expectations, by connection.
+    private static final Map<Object, Set<AsyncSoftAssertionsImpl>> ASYNC = new ConcurrentHashMap<>();
+    // The pages the binding is exposed on, and whether their ticker is running.
+    private static final Map<Page, AtomicBoolean> TICKERS = Collections.synchronizedMap(new WeakHashMap<>());
+
+    private final Object connection;
+    private final Queue<Submission> submissions = new ConcurrentLinkedQueue<>();
+    // Cleared by the dispatcher thread once it is idle, after which submitters go to a new dispatcher.
+    private volatile boolean accepting = true;
+    private final Thread thread;
+
+    private PlaywrightDispatcher(Object connection) {
+        this.connection = connection;
+        this.thread = new Thread(this::run, "soft-assertions-dispatcher-" + COUNT.incrementAndGet());
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * Whether assertions on {@code target} can be made by a dispatcher from the current thread.
+     */
+    static boolean canDispatch(Object target) {
+        return AdaptiveTimeouts.pageOf(target) != null && DISPATCHING.get() == null;
+    }
+
+    /**
+     * Hands {@code expectation} over to the dispatcher of the connection of its target. The returned future completes
+     * once the expectation is resolved and its failure, if any, is recorded by {@code softly}.
+     */
+    static CompletableFuture<AssertionOutcome> submit(SoftAssertionsImpl softly, Expectation expectation) {
+        CompletableFuture<AssertionOutcome> outcome = new CompletableFuture<>();
+        expectation.outcome = outcome;
+        Submission submission = new Submission(softly, expectation);
+        Object connection = connectionOf(AdaptiveTimeouts.pageOf(expectation.target));
+        while (true) {
+            PlaywrightDispatcher dispatcher = DISPATCHERS.computeIfAbsent(connection, PlaywrightDispatcher::new);
+            if (dispatcher.offer(submission)) {
+                return outcome;
+            }
+            DISPATCHERS.remove(connection, dispatcher);
+        }
+    }
+
+    /**
+     * Hands the outstanding expectations of {@code async} on {@code page} over to the dispatcher of its connection,
+     * which checks them from within Playwright calls made on that connection until they are resolved. Must be called
+     * on a thread that may use {@code page}.
+     */
+    static void submitAsync(AsyncSoftAssertionsImpl async, Page page) {
+        Object connection = connectionOf(page);
+        ASYNC.computeIfAbsent(connection, c -> ConcurrentHashMap.newKeySet()).add(async);
+
+        AtomicBoolean ticking;
+        boolean exposed = true;
+        synchronized (TICKERS) {
+            ticking = TICKERS.get(page);
+            if (ticking == null) {
+                ticking = new AtomicBoolean(true);
+                TICKERS.put(page, ticking);
+                exposed = false;
+            }
+        }
+        try {
+            if (!exposed) {
+                AtomicBoolean running = ticking;
+                page.exposeBinding(TICK_BINDING, (source, args) -> tick(connection, running));
+                // Keeps the ticker running across navigations.
+                page.addInitScript(TICKER);
+                page.evaluate(TICKER);
+            } else if (ticking.compareAndSet(false, true)) {
+                page.evaluate(TICKER);
+            }
+        } catch (PlaywrightException e) {
+            // The page is closing, the expectations are still checked when waited for.
+            ticking.set(false);
+        }
+    }
+
+    /**
+     * Checks the outstanding async expectations of {@code connection} once and returns whether any are left.
+     */
+    private static boolean tick(Object connection, AtomicBoolean ticking) {
+        Set<AsyncSoftAssertionsImpl> outstanding = ASYNC.getOrDefault(connection, Collections.emptySet());
+        for (AsyncSoftAssertionsImpl async : outstanding) {
+            try {
+                async.poll();
+            } catch (RuntimeException | Error e) {
+                async.abandon(e);
+            }
+            if (async.isDone()) {
+                outstanding.remove(async);
+                // An expectation may have been added after the check.
+                if (!async.isDone()) {
+                    outstanding.add(async);
+                }
+            }
+        }
+        ticking.set(!outstanding.isEmpty());
+        // A page may have submitted meanwhile without starting the ticker, as it was still running.
+        return ticking.get() || !outstanding.isEmpty() && ticking.compareAndSet(false, true);
+    }
+
+    private boolean offer(Submission submission) {
+        if (!accepting) {
+            return false;
+        }
+        submissions.add(submission);
+        LockSupport.unpark(thread);
+        // If the dispatcher stopped meanwhile, it either took the submission before or never will.
+        return accepting || !submissions.remove(submission);
+    }
+
+    private void run() {
+        DISPATCHING.set(Boolean.TRUE);
+        Map<SoftAssertionsImpl, DeferredAssertions> active = new LinkedHashMap<>();
+        long idleSince = System.nanoTime();
+        while (true) {
+            for (Submission s; (s = submissions.poll()) != null; ) {
+                active.computeIfAbsent(s.softly, softly -> new DeferredAssertions(true)).add(s.expectation);
+            }
+            if (active.isEmpty()) {
+                if (!accepting) {
+                    return;
+                }
+                long idle = System.nanoTime() - idleSince;
+                if (idle >= IDLE_TIMEOUT_NANOS) {
+                    accepting = false;
+                    DISPATCHERS.remove(connection, this);
+                } else {
+                    LockSupport.parkNanos(this, IDLE_TIMEOUT_NANOS - idle);
+                }
+                continue;
+            }
+
+            for (Iterator<Map.Entry<SoftAssertionsImpl, DeferredAssertions>> it = active.entrySet().iterator();
+                 it.hasNext(); ) {
+                Map.Entry<SoftAssertionsImpl, DeferredAssertions> entry = it.next();
+                try {
+                    entry.getValue().pollOnce(entry.getKey());
+                } catch (RuntimeException | Error e) {
+                    entry.getValue().abandon(e);
+                }
+                if (entry.getValue().isEmpty()) {
+                    it.remove();
+                }
+            }
+            if (active.isEmpty()) {
+                idleSince = System.nanoTime();
+            } else {
+                // New submissions wake the dispatcher early, so they are checked without waiting for the next round.
+                LockSupport.parkNanos(this, POLL_INTERVAL_NANOS);
+            }
+        }
+    }
+
+    private static Object connectionOf(Page page) {
+        if (CONNECTION != null && CONNECTION.getDeclaringClass().isInstance(page)) {
+            try {
+                Object connection = CONNECTION.get(page);
+                if (connection != null) {
+                    return connection;
+                }
+            } catch (IllegalAccessException ignored) {
+            }
+        }
+        return PlaywrightDispatcher.class;
+    }
+
+    private static Field connectionField() {
+        try {
+            Field field = Class.forName("com.microsoft.playwright.impl.ChannelOwner").getDeclaredField("connection");
+            field.setAccessible(true);
+            return field;
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            return null;
+        }
+    }
+
+    private static final class Submission {
+        final SoftAssertionsImpl softly;
+        final Expectation expectation;
+
+        Submission(SoftAssertionsImpl softly, Expectation expectation) {
+            this.softly = softly;
+            this.expectation = expectation;
+        }
+    }
+}
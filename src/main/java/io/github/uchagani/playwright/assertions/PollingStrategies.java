@@ -0,0 +1,42 @@
+package io.github.uchagani.playwright.assertions;
+
+import com.microsoft.playwright.Page;
+import com.microsoft.playwright.PlaywrightException;
+
+import java.util.concurrent.TimeUnit;
+
+final class PollingStrategies {
+    static final PollingStrategy DEFAULT = PollingStrategy.fixed(DeferredAssertions.POLL_INTERVAL_MILLIS);
+
+    // Resolves on the first mutation anywhere in the document, or after the given number of milliseconds.
+    private static final String WAIT_FOR_MUTATION = "timeout => new Promise(resolve => {\n"
+            + "  const done = () => { observer.disconnect(); clearTimeout(timer); resolve(); };\n"
+            + "  const observer = new MutationObserver(done);\n"
+            + "  observer.observe(document, {subtree: true, childList: true, attributes: true, characterData: true});\n"
+            + "  const timer = setTimeout(done, timeout);\n"
+            + "})";
+
+    private PollingStrategies() {
+    }
+
+    static void sleep(double millis) {
+        try {
+            TimeUnit.MICROSECONDS.sleep((long) (millis * 1000));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new PlaywrightException("Interrupted while waiting for soft assertions", e);
+        }
+    }
+
+    static void waitForMutation(Page page, double maxIntervalMillis) {
+        if (page == null) {
+            sleep(maxIntervalMillis);
+            return;
+        }
+        try {
+            page.evaluate(WAIT_FOR_MUTATION, maxIntervalMillis);
+        } catch (PlaywrightException e) {
+            // A navigation destroys the execution context, which is as good a reason to check again as a mutation.
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package io.github.uchagani.playwright.assertions;
+
+import com.microsoft.playwright.Page;
+
+/**
+ * Decides how long the retry loop of a {@link SoftAssertions} instance waits before checking pending assertions again.
+ * The loop runs for {@link SoftAssertions.CreateOptions#deferred deferred} assertions, for
+ * {@link SoftAssertions#assertThatTable table} assertions and, when a strategy is configured, for every other
+ * assertion as well. Configure it with {@link SoftAssertions.CreateOptions#setPollingStrategy}.
+ */
+@FunctionalInterface
+public interface PollingStrategy {
+    /**
+     * Returns when the pending assertions should be checked again. {@code page} is the page of the first pending
+     * assertion, or {@code null} if it is not on a page, and {@code attempt} is the number of checks made so far.
+     */
+    void waitForNextCheck(Page page, int attempt);
+
+    /**
+     * Checks again every {@code intervalMillis} milliseconds.
+     */
+    static PollingStrategy fixed(double intervalMillis) {
+        return (page, attempt) -> PollingStrategies.sleep(intervalMillis);
+    }
+
+    /**
+     * Waits {@code initialMillis} milliseconds after the first check and twice as long after every further check, up
+     * to {@code maxMillis}.
+     */
+    static PollingStrategy exponential(double initialMillis, double maxMillis) {
+        return (page, attempt) -> PollingStrategies.sleep(
+                Math.min(initialMillis * Math.pow(2, attempt - 1), maxMillis));
+    }
+
+    /**
+     * Checks again as soon as the DOM of the page changes, and at least every {@code maxIntervalMillis} milliseconds.
+     * The browser notifies the change, so the page is not polled while it is idle.
+     */
+    static PollingStrategy onDomMutation(double maxIntervalMillis) {
+        return (page, attempt) -> PollingStrategies.waitForMutation(page, maxIntervalMillis);
+    }
+}
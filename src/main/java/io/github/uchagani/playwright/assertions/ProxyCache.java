@@ -0,0 +1,31 @@
+package io.github.uchagani.playwright.assertions;
+
+import java.lang.ref.WeakReference;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.function.BiFunction;
+
+/**
+ * Reuses the assertion proxy created for a target, so calling {@code assertThat} on the same locator in a loop does not
+ * allocate. Targets are weakly referenced, and so are the proxies since they hold on to their target. Once
+ * {@link #MAX_SIZE} targets are cached the cache starts over.
+ */
+class ProxyCache {
+    static final int MAX_SIZE = 1024;
+
+    private final Map<Object, WeakReference<Object>> proxies = new WeakHashMap<>();
+
+    @SuppressWarnings("unchecked")
+    synchronized <T, P> P get(T target, SoftAssertionsImpl softly, BiFunction<T, SoftAssertionsImpl, P> factory) {
+        WeakReference<Object> cached = proxies.get(target);
+        Object proxy = cached == null ? null : cached.get();
+        if (proxy == null) {
+            if (proxies.size() >= MAX_SIZE) {
+                proxies.clear();
+            }
+            proxy = factory.apply(target, softly);
+            proxies.put(target, new WeakReference<>(proxy));
+        }
+        return (P) proxy;
+    }
+}
@@ -0,0 +1,91 @@
+package io.github.uchagani.playwright.assertions;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Receives the failures reported by {@link SoftAssertions#assertAll()} one at a time, so a large report never has to be
+ * held in memory as a single string. When a sink is configured the exception thrown by {@code assertAll()} only
+ * carries a summary.
+ */
+@FunctionalInterface
+public interface ReportSink {
+    /**
+     * Called before the first failure with the total number of failures and the number of assertions that were not
+     * run because the {@link SoftAssertions.CreateOptions#maxFailures failure limit} was reached.
+     */
+    default void begin(int failureCount, int skippedCount) {
+    }
+
+    /**
+     * Called before the first failure like {@link #begin(int, int)}, also with the number of assertions that were
+     * reused because an identical one passed within the
+     * {@link SoftAssertions.CreateOptions#deduplicationWindow deduplication window}. Calls {@code begin(int, int)}
+     * unless overridden.
+     */
+    default void begin(int failureCount, int skippedCount, int reusedCount) {
+        begin(failureCount, skippedCount);
+    }
+
+    /**
+     * Called once per reported failure, in order, with its index starting at 1 and its possibly truncated message.
+     */
+    void failure(int index, String message);
+
+    /**
+     * Called after the last reported failure with the number of failures left out because the report reached
+     * {@link SoftAssertions.CreateOptions#maxReportLength}.
+     */
+    default void end(int omittedCount) {
+    }
+
+    /**
+     * Streams the report to {@code writer} in the same format as the {@code assertAll()} message, flushing after
+     * every failure. The writer is not closed.
+     */
+    static ReportSink toWriter(Writer writer) {
+        return new WriterReportSink(writer);
+    }
+
+    /**
+     * Streams the report to a UTF-8 file, replacing any existing content.
+     */
+    static ReportSink toFile(Path path) {
+        return new ReportSink() {
+            private WriterReportSink sink;
+
+            @Override
+            public void begin(int failureCount, int skippedCount) {
+                begin(failureCount, skippedCount, 0);
+            }
+
+            @Override
+            public void begin(int failureCount, int skippedCount, int reusedCount) {
+                try {
+                    sink = new WriterReportSink(Files.newBufferedWriter(path, StandardCharsets.UTF_8));
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+                sink.begin(failureCount, skippedCount, reusedCount);
+            }
+
+            @Override
+            public void failure(int index, String message) {
+                sink.failure(index, message);
+            }
+
+            @Override
+            public void end(int omittedCount) {
+                try {
+                    sink.end(omittedCount);
+                } finally {
+                    sink.close();
+                }
+            }
+        };
+    }
+}
@@ -0,0 +1,118 @@
+package io.github.uchagani.playwright.assertions;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonParser;
+import com.microsoft.playwright.APIResponse;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Reads, decodes and parses the body of each response once, however many assertions are made on it. The JSON body is
+ * parsed as a stream straight from the bytes, without first decoding them into a string.
+ * <p>
+ * Bodies are kept until {@link SoftAssertions#assertAll()} or until the cache grows beyond its size limit, in which
+ * case the least recently used bodies are dropped. The size of a body is estimated from its bytes, the length of its
+ * decoded text and, for a parsed body, its bytes once more.
+ */
+class ResponseBodies {
+    static final int DEFAULT_MAX_SIZE = 64 * 1024 * 1024;
+
+    private final long maxSize;
+    private final Map<APIResponse, Body> bodies = new LinkedHashMap<>(16, 0.75f, true);
+    private long size;
+
+    ResponseBodies(Integer maxSize) {
+        this.maxSize = maxSize == null ? DEFAULT_MAX_SIZE : maxSize;
+    }
+
+    synchronized byte[] bytes(APIResponse response) {
+        return body(response).bytes;
+    }
+
+    synchronized String text(APIResponse response) {
+        Body body = body(response);
+        if (body.text == null) {
+            body.text = new String(body.bytes, charset(response));
+            grow(body, 2L * body.text.length());
+        }
+        return body.text;
+    }
+
+    /**
+     * Returns the parsed body of {@code response}. Throws {@link com.google.gson.JsonParseException} if it is not
+     * valid JSON.
+     */
+    synchronized JsonElement json(APIResponse response) {
+        Body body = body(response);
+        if (body.json == null) {
+            body.json = JsonParser.parseReader(
+                    new InputStreamReader(new ByteArrayInputStream(body.bytes), charset(response)));
+            grow(body, body.bytes.length);
+        }
+        return body.json;
+    }
+
+    synchronized void clear() {
+        bodies.clear();
+        size = 0;
+    }
+
+    private Body body(APIResponse response) {
+        Body body = bodies.get(response);
+        if (body == null) {
+            body = new Body(response.body());
+            bodies.put(response, body);
+            grow(body, body.bytes.length);
+        }
+        return body;
+    }
+
+    private void grow(Body body, long bytes) {
+        body.size += bytes;
+        size += bytes;
+        // Iteration starts at the least recently used body. The body being read is the most recent one, so it stays
+        // until the current assertion is done even when it is larger than the whole cache.
+        for (Iterator<Body> it = bodies.values().iterator(); size > maxSize && it.hasNext(); ) {
+            Body eldest = it.next();
+            if (eldest == body) {
+                break;
+            }
+            size -= eldest.size;
+            it.remove();
+        }
+    }
+
+    static Charset charset(APIResponse response) {
+        String contentType = response.headers().get("content-type");
+        if (contentType != null) {
+            for (String parameter : contentType.split(";")) {
+                String[] nameAndValue = parameter.trim().split("=", 2);
+                if (nameAndValue.length == 2 && nameAndValue[0].trim().equalsIgnoreCase("charset")) {
+                    try {
+                        return Charset.forName(nameAndValue[1].trim().replace("\"", ""));
+                    } catch (IllegalArgumentException e) {
+                        break;
+                    }
+                }
+            }
+        }
+        return StandardCharsets.UTF_8;
+    }
+
+    private static class Body {
+        final byte[] bytes;
+        String text;
+        JsonElement json;
+        long size;
+
+        Body(byte[] bytes) {
+            this.bytes = bytes;
+        }
+    }
+}
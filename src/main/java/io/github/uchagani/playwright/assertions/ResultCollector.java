@@ -0,0 +1,43 @@
+package io.github.uchagani.playwright.assertions;
+
+import java.util.AbstractCollection;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Lock-free, append-only collection of the failures captured by one {@link SoftAssertions} instance.
+ * <p>
+ * Any number of threads may add failures concurrently. Failures are kept in the order in which their {@code add}
+ * calls took effect, so failures recorded by a single thread always keep that thread's order. Iteration is weakly
+ * consistent: it never throws {@link java.util.ConcurrentModificationException} and sees every failure added before
+ * the iteration started.
+ */
+class ResultCollector extends AbstractCollection<Throwable> {
+    private final ConcurrentLinkedQueue<Throwable> failures = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger size = new AtomicInteger();
+
+    @Override
+    public boolean add(Throwable failure) {
+        failures.add(failure);
+        size.incrementAndGet();
+        return true;
+    }
+
+    @Override
+    public int size() {
+        return size.get();
+    }
+
+    @Override
+    public Iterator<Throwable> iterator() {
+        return Collections.unmodifiableCollection(failures).iterator();
+    }
+
+    List<Throwable> snapshot() {
+        return new ArrayList<>(failures);
+    }
+}
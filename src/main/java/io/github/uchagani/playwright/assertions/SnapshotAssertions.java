@@ -0,0 +1,49 @@
+package io.github.uchagani.playwright.assertions;
+
+import com.microsoft.playwright.Locator;
+import com.microsoft.playwright.assertions.LocatorAssertions;
+
+import java.util.Map;
+
+/**
+ * Soft assertions answered from a snapshot of a page, made through {@link SoftAssertions#snapshot}.
+ * <p>
+ * {@code hasText}, {@code hasAttribute}, {@code hasClass}, {@code hasCSS}, {@code hasValue} and {@code hasCount} on
+ * locators of the main frame are checked against the snapshot, without a round trip to the browser and without
+ * retrying, when their selector can be resolved in Java: simple CSS selectors, {@code getByText} without
+ * {@code exact} and {@code getByTestId}, and chains of them. All other assertions, and assertions the snapshot cannot
+ * answer exactly like Playwright would (e.g. {@code hasText} on a locator matching several elements), are made on the
+ * live page like {@link SoftAssertions#assertThat(Locator)} does. Failures are collected by the {@code SoftAssertions}
+ * instance that took the snapshot.
+ * <p>
+ * The share of assertions answered from the snapshot is reported by {@link #localHitRatio()}, and the selectors of
+ * those that were not by {@link #liveFallbacksBySelector()}, to help moving assertions to the fast path.
+ */
+public interface SnapshotAssertions {
+    LocatorAssertions assertThat(Locator locator);
+
+    /**
+     * Number of assertions answered from the snapshot so far.
+     */
+    int localHits();
+
+    /**
+     * Number of assertions made on the live page so far.
+     */
+    int liveFallbacks();
+
+    /**
+     * Share of the assertions made so far that were answered from the snapshot, from 0 to 1. Returns 0 before any
+     * assertion is made.
+     */
+    default double localHitRatio() {
+        int localHits = localHits();
+        int total = localHits + liveFallbacks();
+        return total == 0 ? 0 : (double) localHits / total;
+    }
+
+    /**
+     * The selectors of the assertions made on the live page so far, with the number of such assertions for each.
+     */
+    Map<String, Integer> liveFallbacksBySelector();
+}
@@ -0,0 +1,53 @@
+package io.github.uchagani.playwright.assertions;
+
+import com.microsoft.playwright.Locator;
+import com.microsoft.playwright.assertions.LocatorAssertions;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+class SnapshotAssertionsImpl implements SnapshotAssertions {
+    private final SoftAssertionsImpl softly;
+    private final DomSnapshot snapshot;
+    private final AtomicInteger localHits = new AtomicInteger();
+    private final AtomicInteger liveFallbacks = new AtomicInteger();
+    private final Map<String, Integer> fallbacksBySelector = new ConcurrentHashMap<>();
+
+    SnapshotAssertionsImpl(SoftAssertionsImpl softly, DomSnapshot snapshot) {
+        this.softly = softly;
+        this.snapshot = snapshot;
+    }
+
+    @Override
+    public LocatorAssertions assertThat(Locator locator) {
+        boolean mainFrame = locator.page() == snapshot.page && Locators.frame(locator) == snapshot.page.mainFrame();
+        return new SnapshotLocatorAssertions(softly, this, locator,
+                mainFrame ? snapshot.select(Locators.selector(locator)) : null);
+    }
+
+    @Override
+    public int localHits() {
+        return localHits.get();
+    }
+
+    @Override
+    public int liveFallbacks() {
+        return liveFallbacks.get();
+    }
+
+    @Override
+    public Map<String, Integer> liveFallbacksBySelector() {
+        return new TreeMap<>(fallbacksBySelector);
+    }
+
+    void answered() {
+        localHits.incrementAndGet();
+    }
+
+    void fellBack(String selector) {
+        liveFallbacks.incrementAndGet();
+        fallbacksBySelector.merge(selector, 1, Integer::sum);
+    }
+}
@@ -0,0 +1,332 @@
+package io.github.uchagani.playwright.assertions;
+
+import com.microsoft.playwright.Locator;
+import com.microsoft.playwright.assertions.LocatorAssertions;
+import org.opentest4j.AssertionFailedError;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.regex.Pattern;
+
+/**
+ * Answers the assertions a {@link DomSnapshot} can decide exactly like Playwright would, and hands every other
+ * assertion to the live {@link LocatorAssertionsImplProxy} of the same locator.
+ */
+class SnapshotLocatorAssertions extends SoftAssertionsBase implements LocatorAssertions {
+    private final SnapshotAssertionsImpl snapshot;
+    private final LocatorAssertions live;
+    // The elements the locator matches in the snapshot, null if the snapshot cannot resolve the locator.
+    private final List<DomSnapshot.Element> matches;
+    private volatile SnapshotLocatorAssertions negation;
+
+    private SnapshotLocatorAssertions(SoftAssertionsImpl softly, SnapshotAssertionsImpl snapshot, Locator locator,
+                                      boolean negated, List<DomSnapshot.Element> matches, LocatorAssertions live) {
+        super(softly, locator, negated);
+        this.snapshot = snapshot;
+        this.matches = matches;
+        this.live = live;
+    }
+
+    SnapshotLocatorAssertions(SoftAssertionsImpl softly, SnapshotAssertionsImpl snapshot, Locator locator,
+                              List<DomSnapshot.Element> matches) {
+        this(softly, snapshot, locator, false, matches, softly.assertThat(locator));
+    }
+
+    @Override
+    public LocatorAssertions not() {
+        SnapshotLocatorAssertions not = negation;
+        if (not == null) {
+            not = new SnapshotLocatorAssertions(softly, snapshot, (Locator) target, !negated, matches,
+                    live.not());
+            not.negation = this;
+            negation = not;
+        }
+        return not;
+    }
+
+    @Override
+    public void isAttached(IsAttachedOptions isAttachedOptions) {
+        live().isAttached(isAttachedOptions);
+    }
+
+    @Override
+    public void isChecked(IsCheckedOptions isCheckedOptions) {
+        live().isChecked(isCheckedOptions);
+    }
+
+    @Override
+    public void isDisabled(IsDisabledOptions isDisabledOptions) {
+        live().isDisabled(isDisabledOptions);
+    }
+
+    @Override
+    public void isEditable(IsEditableOptions isEditableOptions) {
+        live().isEditable(isEditableOptions);
+    }
+
+    @Override
+    public void isEmpty(IsEmptyOptions isEmptyOptions) {
+        live().isEmpty(isEmptyOptions);
+    }
+
+    @Override
+    public void isEnabled(IsEnabledOptions isEnabledOptions) {
+        live().isEnabled(isEnabledOptions);
+    }
+
+    @Override
+    public void isFocused(IsFocusedOptions isFocusedOptions) {
+        live().isFocused(isFocusedOptions);
+    }
+
+    @Override
+    public void isHidden(IsHiddenOptions isHiddenOptions) {
+        live().isHidden(isHiddenOptions);
+    }
+
+    @Override
+    public void isInViewport(IsInViewportOptions isInViewportOptions) {
+        live().isInViewport(isInViewportOptions);
+    }
+
+    @Override
+    public void isVisible(IsVisibleOptions isVisibleOptions) {
+        live().isVisible(isVisibleOptions);
+    }
+
+    @Override
+    public void containsText(String s, ContainsTextOptions containsTextOptions) {
+        live().containsText(s, containsTextOptions);
+    }
+
+    @Override
+    public void containsText(Pattern pattern, ContainsTextOptions containsTextOptions) {
+        live().containsText(pattern, containsTextOptions);
+    }
+
+    @Override
+    public void containsText(String[] strings, ContainsTextOptions containsTextOptions) {
+        live().containsText(strings, containsTextOptions);
+    }
+
+    @Override
+    public void containsText(Pattern[] patterns, ContainsTextOptions containsTextOptions) {
+        live().containsText(patterns, containsTextOptions);
+    }
+
+    @Override
+    public void hasAttribute(String s, String s1, HasAttributeOptions hasAttributeOptions) {
+        DomSnapshot.Element element = single(hasAttributeOptions);
+        if (element == null) {
+            live().hasAttribute(s, s1, hasAttributeOptions);
+            return;
+        }
+        String actual = attribute(element, s);
+        check("hasAttribute", "to have attribute '" + s + "'", s1, actual, actual != null && actual.equals(s1));
+    }
+
+    @Override
+    public void hasAttribute(String s, Pattern pattern, HasAttributeOptions hasAttributeOptions) {
+        DomSnapshot.Element element = single(hasAttributeOptions);
+        if (element == null) {
+            live().hasAttribute(s, pattern, hasAttributeOptions);
+            return;
+        }
+        String actual = attribute(element, s);
+        check("hasAttribute", "to have attribute '" + s + "' matching", pattern, actual,
+                actual != null && pattern.matcher(actual).find());
+    }
+
+    @Override
+    public void hasClass(String s, HasClassOptions hasClassOptions) {
+        DomSnapshot.Element element = single(hasClassOptions);
+        if (element == null) {
+            live().hasClass(s, hasClassOptions);
+            return;
+        }
+        String actual = classAttribute(element);
+        check("hasClass", "to have class", s, actual, actual.equals(s));
+    }
+
+    @Override
+    public void hasClass(Pattern pattern, HasClassOptions hasClassOptions) {
+        DomSnapshot.Element element = single(hasClassOptions);
+        if (element == null) {
+            live().hasClass(pattern, hasClassOptions);
+            return;
+        }
+        String actual = classAttribute(element);
+        check("hasClass", "to have class matching", pattern, actual, pattern.matcher(actual).find());
+    }
+
+    @Override
+    public void hasClass(String[] strings, HasClassOptions hasClassOptions) {
+        live().hasClass(strings, hasClassOptions);
+    }
+
+    @Override
+    public void hasClass(Pattern[] patterns, HasClassOptions hasClassOptions) {
+        live().hasClass(patterns, hasClassOptions);
+    }
+
+    @Override
+    public void hasCount(int i, HasCountOptions hasCountOptions) {
+        if (matches == null || !Timeouts.onlyTimeoutSet(hasCountOptions)) {
+            live().hasCount(i, hasCountOptions);
+            return;
+        }
+        check("hasCount", "to have count", i, matches.size(), matches.size() == i);
+    }
+
+    @Override
+    public void hasCSS(String s, String s1, HasCSSOptions hasCSSOptions) {
+        DomSnapshot.Element element = single(hasCSSOptions);
+        if (element == null || !element.css.containsKey(s)) {
+            live().hasCSS(s, s1, hasCSSOptions);
+            return;
+        }
+        String actual = element.css.get(s);
+        check("hasCSS", "to have CSS property '" + s + "'", s1, actual, Objects.equals(actual, s1));
+    }
+
+    @Override
+    public void hasCSS(String s, Pattern pattern, HasCSSOptions hasCSSOptions) {
+        DomSnapshot.Element element = single(hasCSSOptions);
+        if (element == null || !element.css.containsKey(s)) {
+            live().hasCSS(s, pattern, hasCSSOptions);
+            return;
+        }
+        String actual = element.css.get(s);
+        check("hasCSS", "to have CSS property '" + s + "' matching", pattern, actual,
+                actual != null && pattern.matcher(actual).find());
+    }
+
+    @Override
+    public void hasId(String s, HasIdOptions hasIdOptions) {
+        live().hasId(s, hasIdOptions);
+    }
+
+    @Override
+    public void hasId(Pattern pattern, HasIdOptions hasIdOptions) {
+        live().hasId(pattern, hasIdOptions);
+    }
+
+    @Override
+    public void hasJSProperty(String s, Object o, HasJSPropertyOptions hasJSPropertyOptions) {
+        live().hasJSProperty(s, o, hasJSPropertyOptions);
+    }
+
+    @Override
+    public void hasText(String s, HasTextOptions hasTextOptions) {
+        DomSnapshot.Element element = useInnerText(hasTextOptions) ? null : single(null);
+        if (element == null) {
+            live().hasText(s, hasTextOptions);
+            return;
+        }
+        String expected = DomSnapshot.normalizeWhiteSpace(s);
+        String actual = element.text;
+        boolean matches = ignoreCase(hasTextOptions) ? actual.equalsIgnoreCase(expected) : actual.equals(expected);
+        check("hasText", "to have text", expected, actual, matches);
+    }
+
+    @Override
+    public void hasText(Pattern pattern, HasTextOptions hasTextOptions) {
+        DomSnapshot.Element element = useInnerText(hasTextOptions) ? null : single(null);
+        if (element == null) {
+            live().hasText(pattern, hasTextOptions);
+            return;
+        }
+        Pattern effective = ignoreCase(hasTextOptions)
+                ? Pattern.compile(pattern.pattern(), pattern.flags() | Pattern.CASE_INSENSITIVE | Pattern.UNICODE_CASE)
+                : pattern;
+        String actual = element.text;
+        check("hasText", "to have text matching", pattern, actual, effective.matcher(actual).find());
+    }
+
+    @Override
+    public void hasText(String[] strings, HasTextOptions hasTextOptions) {
+        live().hasText(strings, hasTextOptions);
+    }
+
+    @Override
+    public void hasText(Pattern[] patterns, HasTextOptions hasTextOptions) {
+        live().hasText(patterns, hasTextOptions);
+    }
+
+    @Override
+    public void hasValue(String s, HasValueOptions hasValueOptions) {
+        DomSnapshot.Element element = single(hasValueOptions);
+        if (element == null || element.value == null) {
+            live().hasValue(s, hasValueOptions);
+            return;
+        }
+        check("hasValue", "to have value", s, element.value, element.value.equals(s));
+    }
+
+    @Override
+    public void hasValue(Pattern pattern, HasValueOptions hasValueOptions) {
+        DomSnapshot.Element element = single(hasValueOptions);
+        if (element == null || element.value == null) {
+            live().hasValue(pattern, hasValueOptions);
+            return;
+        }
+        check("hasValue", "to have value matching", pattern, element.value, pattern.matcher(element.value).find());
+    }
+
+    @Override
+    public void hasValues(String[] strings, HasValuesOptions hasValuesOptions) {
+        live().hasValues(strings, hasValuesOptions);
+    }
+
+    @Override
+    public void hasValues(Pattern[] patterns, HasValuesOptions hasValuesOptions) {
+        live().hasValues(patterns, hasValuesOptions);
+    }
+
+    /**
+     * Returns the element a single element assertion is made on, or {@code null} if the assertion must be made on the
+     * live page: the snapshot cannot resolve the locator, the locator does not match exactly one element (Playwright
+     * would wait for one or fail with a strict mode violation), or an option other than the timeout is set.
+     */
+    private DomSnapshot.Element single(Object options) {
+        if (matches == null || matches.size() != 1 || !Timeouts.onlyTimeoutSet(options)) {
+            return null;
+        }
+        return matches.get(0);
+    }
+
+    private LocatorAssertions live() {
+        snapshot.fellBack(Locators.selector((Locator) target));
+        return live;
+    }
+
+    private void check(String method, String expectation, Object expected, Object actual, boolean matches) {
+        snapshot.answered();
+        assertAndCaptureResult(method, () -> {
+            if (matches == negated) {
+                throw new AssertionFailedError("Locator expected " + (negated ? "not " : "") + expectation + ": "
+                        + expected + "\nReceived: " + actual + "\nChecked against the page snapshot, selector: "
+                        + Locators.selector((Locator) target), expected, actual);
+            }
+        });
+    }
+
+    private static String attribute(DomSnapshot.Element element, String name) {
+        String value = element.attributes.get(name);
+        return value != null ? value : element.attributes.get(name.toLowerCase(Locale.ROOT));
+    }
+
+    private static String classAttribute(DomSnapshot.Element element) {
+        String value = element.attributes.get("class");
+        return value == null ? "" : value;
+    }
+
+    private static boolean useInnerText(HasTextOptions options) {
+        return options != null && Boolean.TRUE.equals(options.useInnerText);
+    }
+
+    private static boolean ignoreCase(HasTextOptions options) {
+        return options != null && Boolean.TRUE.equals(options.ignoreCase);
+    }
+}
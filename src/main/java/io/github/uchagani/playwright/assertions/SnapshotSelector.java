@@ -0,0 +1,567 @@
+package io.github.uchagani.playwright.assertions;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonParseException;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * The subset of Playwright selectors that can be resolved against a {@link DomSnapshot}:
+ * <ul>
+ *     <li>CSS selectors made of type, {@code #id}, {@code .class} and {@code [attribute]} selectors joined by
+ *     descendant and child combinators, and comma separated lists of them. Like Playwright's CSS engine, combinators
+ *     pierce open shadow roots.</li>
+ *     <li>Case-insensitive text selectors, as created by {@code getByText(text)} or {@code text=text}.</li>
+ *     <li>Exact test id and attribute selectors, as created by {@code getByTestId}.</li>
+ *     <li>Chains of those joined by {@code >>}.</li>
+ * </ul>
+ * {@link #parse} returns {@code null} for anything else (roles, exact text, regular expressions, pseudo-classes, ...),
+ * which is then left to Playwright.
+ */
+final class SnapshotSelector {
+    private static final Gson GSON = new Gson();
+    private static final Comparator<DomSnapshot.Element> DOCUMENT_ORDER =
+            Comparator.comparingInt(element -> element.index);
+
+    private final List<Part> chain;
+
+    private SnapshotSelector(List<Part> chain) {
+        this.chain = chain;
+    }
+
+    static SnapshotSelector parse(String selector) {
+        List<Part> chain = new ArrayList<>();
+        for (String part : split(selector, ">>")) {
+            Part parsed = part(part.trim());
+            if (parsed == null) {
+                return null;
+            }
+            chain.add(parsed);
+        }
+        return new SnapshotSelector(chain);
+    }
+
+    private static Part part(String part) {
+        if (part.startsWith("internal:text=")) {
+            String body = part.substring("internal:text=".length());
+            // getByText(text) without exact produces "text"i, the exact form also matches on single text nodes.
+            String text = body.endsWith("i") ? unquote(body.substring(0, body.length() - 1)) : null;
+            return text == null ? null : new TextPart(text);
+        }
+        if (part.startsWith("text=")) {
+            String text = part.substring("text=".length()).trim();
+            boolean lax = !text.isEmpty() && "\"'/".indexOf(text.charAt(0)) < 0;
+            return lax ? new TextPart(text) : null;
+        }
+        if (part.startsWith("internal:testid=") || part.startsWith("internal:attr=")) {
+            return attributePart(part.substring(part.indexOf('=') + 1));
+        }
+        if (part.startsWith("css=")) {
+            part = part.substring("css=".length()).trim();
+        }
+        List<Complex> alternatives = new ArrayList<>();
+        for (String alternative : split(part, ",")) {
+            Complex complex = new Parser(alternative).complex();
+            if (complex == null) {
+                return null;
+            }
+            alternatives.add(complex);
+        }
+        return new CssPart(alternatives);
+    }
+
+    // [name="value"s], the case-insensitive form does not have the semantics of CSS attribute selectors.
+    private static Part attributePart(String body) {
+        int equals = body.indexOf('=');
+        if (!body.startsWith("[") || !body.endsWith("s]") || equals < 0) {
+            return null;
+        }
+        String name = body.substring(1, equals).trim();
+        String value = unquote(body.substring(equals + 1, body.length() - 2));
+        if (name.isEmpty() || value == null) {
+            return null;
+        }
+        Compound compound = new Compound();
+        compound.attributes.add(new AttributeSelector(name.toLowerCase(Locale.ROOT), "=", value, false));
+        List<Compound> compounds = new ArrayList<>();
+        compounds.add(compound);
+        List<Complex> alternatives = new ArrayList<>();
+        alternatives.add(new Complex(compounds, new ArrayList<>()));
+        return new CssPart(alternatives);
+    }
+
+    private static String unquote(String quoted) {
+        if (quoted.length() < 2 || !quoted.startsWith("\"") || !quoted.endsWith("\"")) {
+            return null;
+        }
+        try {
+            return GSON.fromJson(quoted, String.class);
+        } catch (JsonParseException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Returns the elements of {@code snapshot} the selector matches, in document order.
+     */
+    List<DomSnapshot.Element> select(DomSnapshot snapshot) {
+        boolean[] scopes = null;
+        List<DomSnapshot.Element> matches = null;
+        for (Part part : chain) {
+            boolean[] matched = new boolean[snapshot.elements.size()];
+            matches = new ArrayList<>();
+            for (DomSnapshot.Element element : part.candidates(snapshot)) {
+                if (!matched[element.index] && part.matches(element)
+                        && (scopes == null || inScope(element, scopes, part.includesScope()))) {
+                    matched[element.index] = true;
+                    matches.add(element);
+                }
+            }
+            matches.sort(DOCUMENT_ORDER);
+            scopes = matched;
+        }
+        return matches;
+    }
+
+    private static boolean inScope(DomSnapshot.Element element, boolean[] scopes, boolean includesScope) {
+        if (includesScope && scopes[element.index]) {
+            return true;
+        }
+        for (DomSnapshot.Element ancestor = element.parent; ancestor != null; ancestor = ancestor.parent) {
+            if (scopes[ancestor.index]) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * One part of a {@code >>} chain.
+     */
+    private interface Part {
+        /**
+         * Returns a superset of the elements the part matches, possibly with duplicates, taken from the indexes of
+         * {@code snapshot}.
+         */
+        Collection<DomSnapshot.Element> candidates(DomSnapshot snapshot);
+
+        boolean matches(DomSnapshot.Element element);
+
+        /**
+         * Whether the part can match the elements matched by the previous part themselves, rather than only their
+         * descendants.
+         */
+        boolean includesScope();
+    }
+
+    private static final class CssPart implements Part {
+        private final List<Complex> alternatives;
+
+        CssPart(List<Complex> alternatives) {
+            this.alternatives = alternatives;
+        }
+
+        @Override
+        public Collection<DomSnapshot.Element> candidates(DomSnapshot snapshot) {
+            if (alternatives.size() == 1) {
+                return alternatives.get(0).subject().candidates(snapshot);
+            }
+            List<DomSnapshot.Element> candidates = new ArrayList<>();
+            for (Complex complex : alternatives) {
+                candidates.addAll(complex.subject().candidates(snapshot));
+            }
+            return candidates;
+        }
+
+        @Override
+        public boolean matches(DomSnapshot.Element element) {
+            for (Complex complex : alternatives) {
+                if (complex.matches(element)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        @Override
+        public boolean includesScope() {
+            return false;
+        }
+    }
+
+    /**
+     * Playwright's lax text engine: matches the elements whose text contains the given text, ignoring case and
+     * whitespace, but none of whose child elements do.
+     */
+    private static final class TextPart implements Part {
+        private final String text;
+
+        TextPart(String text) {
+            this.text = DomSnapshot.normalizeWhiteSpace(text).toLowerCase(Locale.ROOT);
+        }
+
+        @Override
+        public Collection<DomSnapshot.Element> candidates(DomSnapshot snapshot) {
+            return snapshot.containingText(text);
+        }
+
+        @Override
+        public boolean matches(DomSnapshot.Element element) {
+            if (element.skipsText || !element.laxText.contains(text)) {
+                return false;
+            }
+            for (DomSnapshot.Element child : element.children) {
+                if (!child.inShadowRoot && !child.skipsText && child.laxText.contains(text)) {
+                    return false;
+                }
+            }
+            return element.laxShadowText == null || !element.laxShadowText.contains(text);
+        }
+
+        @Override
+        public boolean includesScope() {
+            return true;
+        }
+    }
+
+    /**
+     * Splits {@code text} on {@code separator} outside of quotes and brackets.
+     */
+    private static List<String> split(String text, String separator) {
+        List<String> parts = new ArrayList<>();
+        int depth = 0;
+        char quote = 0;
+        int start = 0;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (quote != 0) {
+                if (c == quote) {
+                    quote = 0;
+                }
+            } else if (c == '"' || c == '\'') {
+                quote = c;
+            } else if (c == '[' || c == '(') {
+                depth++;
+            } else if (c == ']' || c == ')') {
+                depth--;
+            } else if (depth == 0 && text.startsWith(separator, i)) {
+                parts.add(text.substring(start, i));
+                start = i + separator.length();
+                i = start - 1;
+            }
+        }
+        parts.add(text.substring(start));
+        return parts;
+    }
+
+    /**
+     * Compound selectors joined by combinators, e.g. {@code form#login > input.name}.
+     */
+    static final class Complex {
+        final List<Compound> compounds;
+        // combinators.get(i) joins compounds i and i + 1, either ' ' or '>'.
+        final List<Character> combinators;
+
+        Complex(List<Compound> compounds, List<Character> combinators) {
+            this.compounds = compounds;
+            this.combinators = combinators;
+        }
+
+        boolean matches(DomSnapshot.Element element) {
+            return matches(element, compounds.size() - 1);
+        }
+
+        private boolean matches(DomSnapshot.Element element, int index) {
+            if (!compounds.get(index).matches(element)) {
+                return false;
+            }
+            if (index == 0) {
+                return true;
+            }
+            if (combinators.get(index - 1) == '>') {
+                return element.parent != null && matches(element.parent, index - 1);
+            }
+            for (DomSnapshot.Element ancestor = element.parent; ancestor != null; ancestor = ancestor.parent) {
+                if (matches(ancestor, index - 1)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        /**
+         * The compound that the matched elements themselves must match.
+         */
+        Compound subject() {
+            return compounds.get(compounds.size() - 1);
+        }
+    }
+
+    /**
+     * A type selector and any number of id, class and attribute selectors that all apply to the same element.
+     */
+    static final class Compound {
+        String tag;
+        final List<String> ids = new ArrayList<>();
+        final List<String> classes = new ArrayList<>();
+        final List<AttributeSelector> attributes = new ArrayList<>();
+
+        /**
+         * Returns the smallest index entry of {@code snapshot} that contains all elements the compound matches.
+         */
+        List<DomSnapshot.Element> candidates(DomSnapshot snapshot) {
+            if (!ids.isEmpty()) {
+                return snapshot.withId(ids.get(0));
+            }
+            List<DomSnapshot.Element> candidates = tag == null ? snapshot.elements : snapshot.withTag(tag);
+            for (String className : classes) {
+                candidates = smaller(candidates, snapshot.withClass(className));
+            }
+            for (AttributeSelector attribute : attributes) {
+                candidates = smaller(candidates, "=".equals(attribute.operator) && !attribute.ignoreCase
+                        ? snapshot.withAttribute(attribute.name, attribute.value)
+                        : snapshot.withAttribute(attribute.name));
+            }
+            return candidates;
+        }
+
+        private static List<DomSnapshot.Element> smaller(List<DomSnapshot.Element> a, List<DomSnapshot.Element> b) {
+            return b.size() < a.size() ? b : a;
+        }
+
+        boolean matches(DomSnapshot.Element element) {
+            if (tag != null && !tag.equals(element.tag)) {
+                return false;
+            }
+            for (String id : ids) {
+                if (!id.equals(element.attributes.get("id"))) {
+                    return false;
+                }
+            }
+            for (String className : classes) {
+                if (!element.classes.contains(className)) {
+                    return false;
+                }
+            }
+            for (AttributeSelector attribute : attributes) {
+                if (!attribute.matches(element.attributes.get(attribute.name))) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
+    static final class AttributeSelector {
+        final String name;
+        // null when only the presence of the attribute is required.
+        final String operator;
+        final String value;
+        final boolean ignoreCase;
+
+        AttributeSelector(String name, String operator, String value, boolean ignoreCase) {
+            this.name = name;
+            this.operator = operator;
+            this.value = ignoreCase && value != null ? value.toLowerCase(Locale.ROOT) : value;
+            this.ignoreCase = ignoreCase;
+        }
+
+        boolean matches(String actual) {
+            if (actual == null) {
+                return false;
+            }
+            if (operator == null) {
+                return true;
+            }
+            if (ignoreCase) {
+                actual = actual.toLowerCase(Locale.ROOT);
+            }
+            switch (operator) {
+                case "=":
+                    return actual.equals(value);
+                case "~=":
+                    return !value.isEmpty() && DomSnapshot.splitClasses(actual).contains(value);
+                case "|=":
+                    return actual.equals(value) || actual.startsWith(value + "-");
+                case "^=":
+                    return !value.isEmpty() && actual.startsWith(value);
+                case "$=":
+                    return !value.isEmpty() && actual.endsWith(value);
+                case "*=":
+                    return !value.isEmpty() && actual.contains(value);
+                default:
+                    return false;
+            }
+        }
+    }
+
+    /**
+     * Parses one complex selector, returning {@code null} as soon as it meets something outside the supported subset
+     * (pseudo-classes, sibling combinators, escapes, other selector engines, ...).
+     */
+    private static final class Parser {
+        private final String text;
+        private int position;
+
+        Parser(String text) {
+            this.text = text;
+        }
+
+        Complex complex() {
+            List<Compound> compounds = new ArrayList<>();
+            List<Character> combinators = new ArrayList<>();
+            skipWhitespace();
+            while (true) {
+                Compound compound = compound();
+                if (compound == null) {
+                    return null;
+                }
+                compounds.add(compound);
+                boolean whitespace = skipWhitespace();
+                if (atEnd()) {
+                    return new Complex(compounds, combinators);
+                }
+                if (peek() == '>') {
+                    position++;
+                    skipWhitespace();
+                    combinators.add('>');
+                } else if (whitespace) {
+                    combinators.add(' ');
+                } else {
+                    return null;
+                }
+            }
+        }
+
+        private Compound compound() {
+            Compound compound = new Compound();
+            boolean empty = true;
+            if (!atEnd() && peek() == '*') {
+                position++;
+                empty = false;
+            } else if (!atEnd() && isNameChar(peek())) {
+                compound.tag = identifier().toLowerCase(Locale.ROOT);
+                empty = false;
+            }
+            while (!atEnd()) {
+                char c = peek();
+                if (c == '#' || c == '.') {
+                    position++;
+                    String name = identifier();
+                    if (name == null) {
+                        return null;
+                    }
+                    (c == '#' ? compound.ids : compound.classes).add(name);
+                } else if (c == '[') {
+                    position++;
+                    AttributeSelector attribute = attribute();
+                    if (attribute == null) {
+                        return null;
+                    }
+                    compound.attributes.add(attribute);
+                } else if (Character.isWhitespace(c) || c == '>') {
+                    break;
+                } else {
+                    return null;
+                }
+                empty = false;
+            }
+            return empty ? null : compound;
+        }
+
+        private AttributeSelector attribute() {
+            skipWhitespace();
+            String name = identifier();
+            if (name == null) {
+                return null;
+            }
+            name = name.toLowerCase(Locale.ROOT);
+            skipWhitespace();
+            if (atEnd()) {
+                return null;
+            }
+            if (peek() == ']') {
+                position++;
+                return new AttributeSelector(name, null, null, false);
+            }
+            String operator = operator();
+            if (operator == null) {
+                return null;
+            }
+            skipWhitespace();
+            String value = atEnd() ? null : peek() == '"' || peek() == '\'' ? quoted() : identifier();
+            if (value == null) {
+                return null;
+            }
+            boolean whitespace = skipWhitespace();
+            boolean ignoreCase = false;
+            if (whitespace && !atEnd() && (peek() == 'i' || peek() == 's')) {
+                ignoreCase = peek() == 'i';
+                position++;
+                skipWhitespace();
+            }
+            if (atEnd() || peek() != ']') {
+                return null;
+            }
+            position++;
+            return new AttributeSelector(name, operator, value, ignoreCase);
+        }
+
+        private String operator() {
+            for (String operator : new String[]{"=", "~=", "|=", "^=", "$=", "*="}) {
+                if (text.startsWith(operator, position)) {
+                    position += operator.length();
+                    return operator;
+                }
+            }
+            return null;
+        }
+
+        private String quoted() {
+            char quote = text.charAt(position);
+            int end = text.indexOf(quote, position + 1);
+            if (end < 0 || text.lastIndexOf('\\', end) > position) {
+                return null;
+            }
+            String value = text.substring(position + 1, end);
+            position = end + 1;
+            return value;
+        }
+
+        private String identifier() {
+            int start = position;
+            while (!atEnd() && isNameChar(peek())) {
+                position++;
+            }
+            if (position == start || Character.isDigit(text.charAt(start))) {
+                return null;
+            }
+            return text.substring(start, position);
+        }
+
+        private boolean skipWhitespace() {
+            int start = position;
+            while (!atEnd() && Character.isWhitespace(peek())) {
+                position++;
+            }
+            return position > start;
+        }
+
+        private boolean atEnd() {
+            return position >= text.length();
+        }
+
+        private char peek() {
+            return text.charAt(position);
+        }
+
+        private static boolean isNameChar(char c) {
+            return c >= 'a' && c <= 'z' || c >= 'A' && c <= 'Z' || c >= '0' && c <= '9' || c == '-' || c == '_'
+                    || c >= 0x80;
+        }
+    }
+}
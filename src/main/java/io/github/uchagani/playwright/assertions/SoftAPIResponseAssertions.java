@@ -0,0 +1,56 @@
+package io.github.uchagani.playwright.assertions;
+
+import com.microsoft.playwright.assertions.APIResponseAssertions;
+
+import java.util.function.Predicate;
+
+/**
+ * Soft assertions on an {@code APIResponse}. In addition to Playwright's {@code isOK()}, checks the status, headers
+ * and body. The body is read, decoded and parsed once per response, however many assertions are made on it.
+ */
+public interface SoftAPIResponseAssertions extends APIResponseAssertions {
+    @Override
+    SoftAPIResponseAssertions not();
+
+    /**
+     * Ensures the response has the given status code.
+     */
+    void hasStatus(int status);
+
+    /**
+     * Ensures the response has a header named {@code name}, compared case-insensitively.
+     */
+    void hasHeader(String name);
+
+    /**
+     * Ensures the response has a header named {@code name}, compared case-insensitively, with the given value.
+     */
+    void hasHeader(String name, String value);
+
+    /**
+     * Ensures the body, decoded with the charset of its {@code Content-Type} or UTF-8, contains {@code text}.
+     */
+    void containsText(String text);
+
+    /**
+     * Ensures the JSON body has a value at {@code path}, e.g. {@code $.items[0].name}, equal to {@code expected}.
+     * {@code expected} is compared as JSON, so {@code 30}, {@code 30L} and {@code 30.0} are all equal to {@code 30},
+     * and lists and maps are compared with the JSON arrays and objects element by element.
+     */
+    void hasJsonValue(String path, Object expected);
+
+    /**
+     * Ensures the JSON body has a value at {@code path}, e.g. {@code $.items[0].name}, that {@code matcher} accepts.
+     * The value is passed as {@code null}, a {@code String}, a {@code Boolean}, a {@code Long} for integral numbers,
+     * a {@code Double} for other numbers, a {@code List} or a {@code Map}.
+     */
+    void hasJsonPath(String path, Predicate<Object> matcher);
+
+    /**
+     * Ensures the JSON body matches {@code schema}. Supports the commonly used keywords of JSON Schema: {@code type},
+     * {@code enum}, {@code const}, {@code properties}, {@code required}, {@code additionalProperties}, {@code items},
+     * {@code minItems}, {@code maxItems}, {@code minLength}, {@code maxLength}, {@code pattern}, {@code minimum},
+     * {@code maximum}, {@code exclusiveMinimum} and {@code exclusiveMaximum}.
+     */
+    void matchesJsonSchema(String schema);
+}
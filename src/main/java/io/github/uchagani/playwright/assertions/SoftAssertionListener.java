@@ -0,0 +1,29 @@
+package io.github.uchagani.playwright.assertions;
+
+/**
+ * Receives events for every assertion made through a {@link SoftAssertions} instance, e.g. to trace assertions, take
+ * screenshots of failures or find the assertions that spend the most time waiting. Register listeners with
+ * {@link SoftAssertions.CreateOptions#setListeners}, or for all instances by listing them in
+ * {@code META-INF/services/io.github.uchagani.playwright.assertions.SoftAssertionListener}.
+ * <p>
+ * Listeners are called on the thread that made the assertion, which for deferred assertions is the thread calling
+ * {@link SoftAssertions#assertAll()}. With {@link SoftAssertions.CreateOptions#asyncListeners} they are called in order
+ * on a background thread instead, and must then not use the Playwright objects passed to them.
+ */
+@FunctionalInterface
+public interface SoftAssertionListener {
+    /**
+     * Called before an assertion is sent to Playwright. Not called for assertions skipped after reaching the
+     * failure limit. {@code target} is the {@code Locator}, {@code Page} or {@code APIResponse} being asserted on.
+     */
+    default void assertionStarted(String method, Object target, boolean negated) {
+    }
+
+    /**
+     * Called with the failure of a failed assertion, before {@link #assertionCompleted}.
+     */
+    default void assertionFailed(AssertionRecord record, Throwable failure) {
+    }
+
+    void assertionCompleted(AssertionRecord record);
+}
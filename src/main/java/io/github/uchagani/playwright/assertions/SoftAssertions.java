@@ -7,15 +7,350 @@ import com.microsoft.playwright.assertions.APIResponseAssertions;
 import com.microsoft.playwright.assertions.LocatorAssertions;
 import com.microsoft.playwright.assertions.PageAssertions;
 
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+
+/**
+ * Collects the failures of Playwright assertions so they can be reported together by {@link #assertAll()}.
+ * <p>
+ * A {@code SoftAssertions} instance may be shared between threads without external synchronization. Failures
+ * recorded concurrently are all kept, and {@code assertAll()} reports them in the order in which they were recorded,
+ * which for any single thread is the order its assertions were made. The Playwright objects being asserted on are
+ * still subject to Playwright's own threading rules.
+ */
 public interface SoftAssertions {
+    class CreateOptions {
+        /**
+         * Total time in milliseconds that all assertions made through the {@code SoftAssertions} instance may wait
+         * for, combined. Each assertion gets at most the time left in the budget, and once it is used up the
+         * remaining assertions are checked once without waiting. Defaults to no budget.
+         */
+        public Double timeoutBudget;
+        /**
+         * When {@code true}, assertions are only registered when they are made and {@link #assertAll()} checks all
+         * of them together in a single retry loop, so the total wait is the longest timeout instead of the sum of
+         * all timeouts. Assertions are evaluated against the state of the page at the time {@code assertAll()} is
+         * called. Defaults to {@code false}.
+         */
+        public Boolean deferred;
+        /**
+         * Executor that {@link SoftAssertions#assertThatEach} runs its targets on. Defaults to a virtual thread per
+         * target on Java 21 and later, and to a pool bounded by the number of processors otherwise.
+         */
+        public Executor executor;
+        /**
+         * When {@code true}, each captured failure is reduced to its message, expected and actual values and the line
+         * that made the assertion, and the original exception and its stack trace are released. Useful for tests that
+         * collect thousands of failures. Setting the {@code playwright.softassertions.debug} system property to
+         * {@code true} keeps the full failures regardless. Defaults to {@code false}.
+         */
+        public Boolean compactFailures;
+        /**
+         * Where {@link SoftAssertions#assertAll()} streams the failures it reports. When set, the exception thrown by
+         * {@code assertAll()} only carries a summary. Defaults to building the report into the exception message.
+         */
+        public ReportSink reportSink;
+        /**
+         * Maximum number of characters reported for a single failure message, longer messages are truncated.
+         * Defaults to no limit.
+         */
+        public Integer maxFailureMessageLength;
+        /**
+         * Approximate maximum number of characters in the whole report. The failure that reaches it is cut short and
+         * the remaining failures are counted but not reported. Defaults to no limit.
+         */
+        public Integer maxReportLength;
+        /**
+         * Number of failures after which further assertions are skipped without touching the browser. The number of
+         * skipped assertions is reported by {@link SoftAssertions#assertAll()}. Defaults to no limit.
+         */
+        public Integer maxFailures;
+        /**
+         * Number of failures in a row after which further assertions are skipped without touching the browser.
+         * Defaults to no limit.
+         */
+        public Integer maxConsecutiveFailures;
+        /**
+         * When {@code true}, every failure in a row on a page halves the timeout of the next assertion on that page,
+         * down to 100ms, and a passing assertion restores it. Failures of assertions that ran with a reduced timeout
+         * say so in their message. Does not apply to deferred assertions. Defaults to {@code false}.
+         */
+        public Boolean adaptiveTimeout;
+        /**
+         * Listeners notified before and after every assertion, in addition to those registered through
+         * {@code ServiceLoader}. Defaults to none.
+         */
+        public List<SoftAssertionListener> listeners;
+        /**
+         * When {@code true}, listeners are called on a background thread so they never add to the time an assertion
+         * takes. {@link SoftAssertions#assertAll()} waits for the events dispatched so far to be delivered. Defaults
+         * to {@code false}.
+         */
+        public Boolean asyncListeners;
+        /**
+         * Directory to save a screenshot of the page and the HTML of the target to when an assertion fails. The
+         * failure message refers to the saved files, and a capture identical to the previous one on the same page is
+         * not saved again. Files are written in the background, {@link SoftAssertions#assertAll()} waits for them.
+         * Defaults to not capturing anything.
+         */
+        public Path artifactDirectory;
+        /**
+         * How often retrying assertions are checked again. When set, every assertion is retried by the soft
+         * assertions' own loop instead of Playwright's, so the strategy applies to all of them. Adaptive timeouts do
+         * not apply to assertions retried this way. Defaults to checking deferred and table assertions every 100ms
+         * and leaving the retries of other assertions to Playwright.
+         */
+        public PollingStrategy pollingStrategy;
+        /**
+         * Approximate number of bytes of response bodies kept for assertions on API responses. Bodies are kept until
+         * {@link SoftAssertions#assertAll()}, the least recently used ones are dropped earlier when the limit is
+         * exceeded. Defaults to 64MB.
+         */
+        public Integer maxResponseCacheSize;
+        /**
+         * When {@code true}, assertions on pages and locators can be made from several threads at once. They are
+         * handed to a single thread per Playwright connection, which checks all of them together while the threads
+         * that made them wait, so that Playwright is never used by two threads at once. Other Playwright calls made by
+         * those threads still need to be kept apart. Adaptive timeouts and the polling strategy do not apply to
+         * assertions made this way, and table assertions and snapshots are not made this way. Assertions made by
+         * {@link SoftAssertions#assertThatEach} are always made this way. Defaults to {@code false}.
+         */
+        public Boolean threadSafe;
+        /**
+         * When set, an assertion identical to one that passed at most this many milliseconds earlier is not made
+         * again and passes right away. Identical means the same frame and selector, or the same page, the same
+         * method, expected values, negation and options. The number of assertions reused this way is reported by
+         * {@link SoftAssertions#assertAll()}. Deferred assertions registered together are all checked, since none of
+         * them has passed yet. Defaults to making every assertion.
+         */
+        public Double deduplicationWindow;
+
+        public CreateOptions setTimeoutBudget(double timeoutBudget) {
+            this.timeoutBudget = timeoutBudget;
+            return this;
+        }
+
+        public CreateOptions setDeferred(boolean deferred) {
+            this.deferred = deferred;
+            return this;
+        }
+
+        public CreateOptions setExecutor(Executor executor) {
+            this.executor = executor;
+            return this;
+        }
+
+        public CreateOptions setCompactFailures(boolean compactFailures) {
+            this.compactFailures = compactFailures;
+            return this;
+        }
+
+        public CreateOptions setReportSink(ReportSink reportSink) {
+            this.reportSink = reportSink;
+            return this;
+        }
+
+        public CreateOptions setMaxFailureMessageLength(int maxFailureMessageLength) {
+            this.maxFailureMessageLength = maxFailureMessageLength;
+            return this;
+        }
+
+        public CreateOptions setMaxReportLength(int maxReportLength) {
+            this.maxReportLength = maxReportLength;
+            return this;
+        }
+
+        public CreateOptions setMaxFailures(int maxFailures) {
+            this.maxFailures = maxFailures;
+            return this;
+        }
+
+        public CreateOptions setMaxConsecutiveFailures(int maxConsecutiveFailures) {
+            this.maxConsecutiveFailures = maxConsecutiveFailures;
+            return this;
+        }
+
+        public CreateOptions setAdaptiveTimeout(boolean adaptiveTimeout) {
+            this.adaptiveTimeout = adaptiveTimeout;
+            return this;
+        }
+
+        public CreateOptions setListeners(List<SoftAssertionListener> listeners) {
+            this.listeners = listeners;
+            return this;
+        }
+
+        public CreateOptions setAsyncListeners(boolean asyncListeners) {
+            this.asyncListeners = asyncListeners;
+            return this;
+        }
+
+        public CreateOptions setArtifactDirectory(Path artifactDirectory) {
+            this.artifactDirectory = artifactDirectory;
+            return this;
+        }
+
+        public CreateOptions setPollingStrategy(PollingStrategy pollingStrategy) {
+            this.pollingStrategy = pollingStrategy;
+            return this;
+        }
+
+        public CreateOptions setMaxResponseCacheSize(int maxResponseCacheSize) {
+            this.maxResponseCacheSize = maxResponseCacheSize;
+            return this;
+        }
+
+        public CreateOptions setThreadSafe(boolean threadSafe) {
+            this.threadSafe = threadSafe;
+            return this;
+        }
+
+        public CreateOptions setDeduplicationWindow(double deduplicationWindow) {
+            this.deduplicationWindow = deduplicationWindow;
+            return this;
+        }
+    }
+
+    class GroupOptions {
+        /**
+         * Timeout budget of the group, see {@link CreateOptions#timeoutBudget}. The time taken is also deducted from
+         * the budget of the parent, and the group never gets more than is left of that. Defaults to sharing the
+         * budget of the parent.
+         */
+        public Double timeoutBudget;
+        /**
+         * Failure limit of the group, see {@link CreateOptions#maxFailures}, counted for the group only. Failures in
+         * the group also count towards the limit of the parent, which stops the group too once reached. Defaults to
+         * no limit of the group's own.
+         */
+        public Integer maxFailures;
+        /**
+         * Consecutive failure limit of the group, see {@link CreateOptions#maxConsecutiveFailures}, counted for the
+         * group only. The assertions of the group also count towards the limit of the parent, which stops the group
+         * too once reached. Defaults to no limit of the group's own.
+         */
+        public Integer maxConsecutiveFailures;
+
+        public GroupOptions setTimeoutBudget(double timeoutBudget) {
+            this.timeoutBudget = timeoutBudget;
+            return this;
+        }
+
+        public GroupOptions setMaxFailures(int maxFailures) {
+            this.maxFailures = maxFailures;
+            return this;
+        }
+
+        public GroupOptions setMaxConsecutiveFailures(int maxConsecutiveFailures) {
+            this.maxConsecutiveFailures = maxConsecutiveFailures;
+            return this;
+        }
+    }
+
+    class SnapshotOptions {
+        /**
+         * Time in milliseconds the DOM must go without changes, after the page has loaded, before the snapshot is
+         * taken. Defaults to 100ms.
+         */
+        public Double quietPeriod;
+        /**
+         * Maximum time in milliseconds to wait for the page to load and stop changing. Defaults to the default
+         * assertion timeout.
+         */
+        public Double timeout;
+        /**
+         * Computed CSS properties captured for every element. {@code hasCSS} on other properties is made on the live
+         * page. Defaults to {@code display}, {@code visibility}, {@code color}, {@code background-color},
+         * {@code font-weight}, {@code font-size} and {@code opacity}.
+         */
+        public List<String> cssProperties;
+
+        public SnapshotOptions setQuietPeriod(double quietPeriod) {
+            this.quietPeriod = quietPeriod;
+            return this;
+        }
+
+        public SnapshotOptions setTimeout(double timeout) {
+            this.timeout = timeout;
+            return this;
+        }
+
+        public SnapshotOptions setCssProperties(List<String> cssProperties) {
+            this.cssProperties = cssProperties;
+            return this;
+        }
+    }
+
     PageAssertions assertThat(Page page);
     LocatorAssertions assertThat(Locator locator);
 
+    default SnapshotAssertions snapshot(Page page) {
+        return snapshot(page, null);
+    }
+
+    /**
+     * Waits for {@code page} to stop changing and reads its whole DOM with a single evaluation, then returns
+     * assertions that are answered from that snapshot wherever possible. Meant for pages that are static once loaded,
+     * where it replaces a browser round trip per assertion. Throws if the page does not stop changing within the
+     * {@link SnapshotOptions#timeout timeout}.
+     */
+    SnapshotAssertions snapshot(Page page, SnapshotOptions options);
+
     APIResponseAssertions assertThat(APIResponse response);
 
+    /**
+     * Returns assertions on {@code response} that, in addition to those of {@link #assertThat(APIResponse)}, check
+     * its status, headers and body.
+     */
+    SoftAPIResponseAssertions assertThatResponse(APIResponse response);
+
+    /**
+     * Returns assertions on the table or grid whose rows {@code rows} matches, which check all cells with a single
+     * evaluation in the browser. Table assertions are checked immediately, even when {@link CreateOptions#deferred}
+     * is enabled.
+     */
+    TableAssertions assertThatTable(Locator rows);
+
+    /**
+     * Returns assertions that are registered without waiting and complete a future once they pass or time out. Their
+     * failures are collected by this instance, and {@link #assertAll()} waits for those still outstanding.
+     */
+    AsyncSoftAssertions async();
+
+    /**
+     * Runs {@code assertions} once for every target, concurrently on the {@link CreateOptions#executor configured
+     * executor}, and returns when all of them have completed. Failures are collected like any other soft assertion
+     * and reported by {@link #assertAll()}.
+     * <p>
+     * Playwright objects must not be used from several threads at once. Assertions on pages and locators made by
+     * {@code assertions} are handed to a single thread per Playwright connection like with
+     * {@link CreateOptions#threadSafe}, or left to {@code assertAll()} when {@link CreateOptions#deferred} is
+     * enabled. Other Playwright calls made by {@code assertions} should not share a {@code Playwright} instance.
+     */
+    <T> void assertThatEach(Collection<? extends T> targets, BiConsumer<SoftAssertions, ? super T> assertions);
+
+    default void group(String name, Consumer<SoftAssertions> assertions) {
+        group(name, null, assertions);
+    }
+
+    /**
+     * Runs {@code assertions} against a group of this instance, e.g. for one section of a page. The group has its own
+     * timeout budget and failure limits and its failures are reported by {@link #assertAll()} of this instance under
+     * the name of the group, with their own counts. Groups can be nested.
+     */
+    void group(String name, GroupOptions options, Consumer<SoftAssertions> assertions);
+
     void assertAll();
 
     static SoftAssertions create() {
-        return new SoftAssertionsImpl();
+        return create(null);
+    }
+
+    static SoftAssertions create(CreateOptions options) {
+        return new SoftAssertionsImpl(options == null ? new CreateOptions() : options);
     }
 }
@@ -1,22 +1,128 @@
 package io.github.uchagani.playwright.assertions;
 
-import com.microsoft.playwright.PlaywrightException;
-import org.opentest4j.AssertionFailedError;
+import com.microsoft.playwright.Page;
 
+import java.time.Duration;
+import java.time.Instant;
 import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
 
 class SoftAssertionsBase {
-    final List<Throwable> results;
+    final SoftAssertionsImpl softly;
+    final Object target;
+    final boolean negated;
 
-    public SoftAssertionsBase(List<Throwable> results) {
-        this.results = results;
+    public SoftAssertionsBase(SoftAssertionsImpl softly, Object target, boolean negated) {
+        this.softly = softly;
+        this.target = target;
+        this.negated = negated;
     }
 
-    void assertAndCaptureResult(Runnable assertion) {
-        try {
-            assertion.run();
-        } catch (AssertionFailedError | PlaywrightException failure) {
-            results.add(failure);
+    <T> void assertAndCaptureResult(String method, T options, Supplier<T> optionsFactory, Consumer<T> assertion, Object... expected) {
+        if (skip(method)) {
+            return;
         }
+
+        List<Object> passedKey = null;
+        if (softly.passedExpectations != null) {
+            passedKey = PassedExpectations.key(target, method, negated, expected, options);
+            if (softly.passedExpectations.isFresh(passedKey)) {
+                softly.reused(method, target, negated);
+                return;
+            }
+        }
+
+        boolean dispatched = softly.deferred == null && softly.dispatches(target);
+        if (softly.deferred != null || softly.pollAll || dispatched) {
+            Expectation expectation = Expectation.of(target, negated, method, expected, options, optionsFactory,
+                    assertion);
+            expectation.passedKey = passedKey;
+            if (softly.deferred != null) {
+                softly.deferred.add(expectation);
+            } else if (dispatched) {
+                softly.dispatch(expectation);
+            } else {
+                DeferredAssertions.check(softly, expectation);
+            }
+            return;
+        }
+
+        TimeoutBudget budget = softly.budget;
+        AdaptiveTimeouts adaptive = softly.adaptiveTimeouts;
+        Page page = adaptive == null ? null : AdaptiveTimeouts.pageOf(target);
+        if (budget == null && page == null) {
+            passed(passedKey, capture(method, () -> assertion.accept(options), null, null));
+            return;
+        }
+
+        Double requestedTimeout = Timeouts.timeoutOf(options);
+        double timeout = budget != null ? budget.timeoutFor(requestedTimeout)
+                : requestedTimeout != null ? requestedTimeout : Timeouts.defaultAssertionTimeout();
+        String note = null;
+        if (page != null) {
+            double reduced = adaptive.timeoutFor(page, timeout);
+            if (reduced != timeout) {
+                timeout = reduced;
+                note = AdaptiveTimeouts.note(reduced);
+            }
+        }
+
+        T effectiveOptions = Timeouts.withTimeout(options, optionsFactory, timeout);
+        passed(passedKey, capture(method, () -> assertion.accept(effectiveOptions), note, page));
+    }
+
+    private void passed(List<Object> passedKey, Throwable failure) {
+        if (passedKey != null && failure == null) {
+            softly.passedExpectations.passed(passedKey);
+        }
+    }
+
+    void assertAndCaptureResult(String method, Runnable assertion) {
+        if (!skip(method)) {
+            capture(method, assertion, null, null);
+        }
+    }
+
+    boolean skip(String method) {
+        if (!softly.failFast.skip()) {
+            return false;
+        }
+        if (softly.events.enabled()) {
+            softly.events.completed(new AssertionRecord(method, target, negated, Instant.now(), Duration.ZERO, 0,
+                    AssertionRecord.Outcome.SKIPPED), null);
+        }
+        return true;
+    }
+
+    /**
+     * Makes {@code assertion} and returns its recorded failure, or {@code null} if it passed.
+     */
+    private Throwable capture(String method, Runnable assertion, String note, Page page) {
+        TimeoutBudget budget = softly.budget;
+        AssertionEvents events = softly.events;
+        boolean timed = budget != null || events.enabled();
+        Instant startTime = timed ? Instant.now() : null;
+        long start = timed ? System.nanoTime() : 0;
+
+        events.started(method, target, negated);
+        Throwable failure = softly.captureResult(assertion, target, note);
+
+        long elapsed = timed ? System.nanoTime() - start : 0;
+        if (budget != null) {
+            budget.consume(elapsed);
+        }
+        if (page != null) {
+            if (failure == null) {
+                softly.adaptiveTimeouts.passed(page);
+            } else {
+                softly.adaptiveTimeouts.failed(page);
+            }
+        }
+        if (events.enabled()) {
+            events.completed(new AssertionRecord(method, target, negated, startTime, Duration.ofNanos(elapsed), 1,
+                    failure == null ? AssertionRecord.Outcome.PASSED : AssertionRecord.Outcome.FAILED), failure);
+        }
+        return failure;
     }
 }
@@ -0,0 +1,116 @@
+package io.github.uchagani.playwright.assertions;
+
+import org.junit.jupiter.api.extension.AfterEachCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.api.extension.ParameterContext;
+import org.junit.jupiter.api.extension.ParameterResolver;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * JUnit 5 extension that injects a {@link SoftAssertions} instance into test methods, {@code @BeforeEach} methods and
+ * {@code @AfterEach} methods, and calls {@link SoftAssertions#assertAll()} after each test. All of them receive the
+ * same instance within a test and every test gets its own, so tests may run concurrently.
+ * <pre>{@code
+ * @ExtendWith(SoftAssertionsExtension.class)
+ * class MyTest {
+ *     @Test
+ *     void test(SoftAssertions softly) {
+ *         softly.assertThat(page).hasTitle("Title");
+ *     }
+ * }
+ * }</pre>
+ * To configure the instances, register the extension with {@code @RegisterExtension} and pass a supplier of
+ * {@link SoftAssertions.CreateOptions}.
+ * <p>
+ * After each test the number of assertions, the number of failed assertions and the time spent in them are published
+ * as the report entries {@value #ASSERTIONS}, {@value #FAILURES} and {@value #DURATION_MILLIS}.
+ */
+public class SoftAssertionsExtension implements ParameterResolver, AfterEachCallback {
+    public static final String ASSERTIONS = "softAssertions.count";
+    public static final String FAILURES = "softAssertions.failures";
+    public static final String DURATION_MILLIS = "softAssertions.durationMillis";
+
+    private static final ExtensionContext.Namespace NAMESPACE =
+            ExtensionContext.Namespace.create(SoftAssertionsExtension.class);
+
+    private final Supplier<SoftAssertions.CreateOptions> options;
+
+    public SoftAssertionsExtension() {
+        this(SoftAssertions.CreateOptions::new);
+    }
+
+    public SoftAssertionsExtension(Supplier<SoftAssertions.CreateOptions> options) {
+        this.options = options;
+    }
+
+    @Override
+    public boolean supportsParameter(ParameterContext parameterContext, ExtensionContext extensionContext) {
+        return parameterContext.getParameter().getType() == SoftAssertions.class
+                && extensionContext.getTestMethod().isPresent();
+    }
+
+    @Override
+    public Object resolveParameter(ParameterContext parameterContext, ExtensionContext extensionContext) {
+        return instance(extensionContext).softly;
+    }
+
+    @Override
+    public void afterEach(ExtensionContext context) {
+        Instance instance = context.getStore(NAMESPACE).remove(Instance.class, Instance.class);
+        if (instance == null) {
+            return;
+        }
+        try {
+            instance.softly.assertAll();
+        } finally {
+            Map<String, String> entries = new HashMap<>();
+            entries.put(ASSERTIONS, String.valueOf(instance.assertions.sum()));
+            entries.put(FAILURES, String.valueOf(instance.failures.sum()));
+            entries.put(DURATION_MILLIS, String.valueOf(TimeUnit.NANOSECONDS.toMillis(instance.durationNanos.sum())));
+            context.publishReportEntry(entries);
+        }
+    }
+
+    private Instance instance(ExtensionContext context) {
+        // The store of a test method's context is not shared with other tests, so no locking is needed beyond what
+        // the store itself does.
+        return context.getStore(NAMESPACE).getOrComputeIfAbsent(Instance.class, key -> new Instance(options.get()),
+                Instance.class);
+    }
+
+    private static class Instance implements SoftAssertionListener {
+        final LongAdder assertions = new LongAdder();
+        final LongAdder failures = new LongAdder();
+        final LongAdder durationNanos = new LongAdder();
+        final SoftAssertions softly;
+
+        Instance(SoftAssertions.CreateOptions options) {
+            if (options == null) {
+                options = new SoftAssertions.CreateOptions();
+            }
+            List<SoftAssertionListener> listeners = new ArrayList<>();
+            if (options.listeners != null) {
+                listeners.addAll(options.listeners);
+            }
+            listeners.add(this);
+            // The supplied options may be shared by several tests, so they are left untouched.
+            this.softly = new SoftAssertionsImpl(options, listeners);
+        }
+
+        @Override
+        public void assertionCompleted(AssertionRecord record) {
+            assertions.increment();
+            if (record.outcome() == AssertionRecord.Outcome.FAILED) {
+                failures.increment();
+            }
+            durationNanos.add(record.duration().toNanos());
+        }
+    }
+}
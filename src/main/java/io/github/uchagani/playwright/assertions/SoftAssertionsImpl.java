@@ -3,55 +3,329 @@ package io.github.uchagani.playwright.assertions;
 import com.microsoft.playwright.APIResponse;
 import com.microsoft.playwright.Locator;
 import com.microsoft.playwright.Page;
+import com.microsoft.playwright.PlaywrightException;
 import com.microsoft.playwright.assertions.APIResponseAssertions;
 import com.microsoft.playwright.assertions.LocatorAssertions;
 import com.microsoft.playwright.assertions.PageAssertions;
 import org.opentest4j.AssertionFailedError;
 
+import java.time.Duration;
+import java.time.Instant;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
 
 class SoftAssertionsImpl implements SoftAssertions {
-    final List<Throwable> results;
+    static final String DEBUG_PROPERTY = "playwright.softassertions.debug";
+    // Set on the threads running the targets of assertThatEach.
+    private static final ThreadLocal<Boolean> FAN_OUT = new ThreadLocal<>();
 
-    SoftAssertionsImpl() {
-        this.results = new ArrayList<>();
+    final ResultCollector results;
+    final TimeoutBudget budget;
+    final DeferredAssertions deferred;
+    final FailFast failFast;
+    final AdaptiveTimeouts adaptiveTimeouts;
+    final AssertionEvents events;
+    final PollingStrategy polling;
+    final boolean pollAll;
+    private final boolean threadSafe;
+    private final FailureArtifacts artifacts;
+    final ResponseBodies responseBodies;
+    final PassedExpectations passedExpectations;
+    private final AtomicInteger reused = new AtomicInteger();
+    private final ProxyCache proxies = new ProxyCache();
+    private final Executor executor;
+    private final boolean compactFailures;
+    private final ReportSink reportSink;
+    private final FailureReport report;
+    private final String name;
+    private final Queue<SoftAssertionsImpl> groups = new ConcurrentLinkedQueue<>();
+    private volatile AsyncSoftAssertionsImpl async;
+
+    SoftAssertionsImpl(CreateOptions options) {
+        this(options, options.listeners);
+    }
+
+    /**
+     * Creates an instance configured by {@code options} but notifying {@code listeners} instead of
+     * {@link CreateOptions#listeners}, leaving {@code options} as they are.
+     */
+    SoftAssertionsImpl(CreateOptions options, List<SoftAssertionListener> listeners) {
+        this.name = null;
+        this.results = new ResultCollector();
+        this.responseBodies = new ResponseBodies(options.maxResponseCacheSize);
+        this.passedExpectations = options.deduplicationWindow == null ? null
+                : new PassedExpectations(options.deduplicationWindow);
+        this.budget = options.timeoutBudget == null ? null : new TimeoutBudget(options.timeoutBudget);
+        this.deferred = Boolean.TRUE.equals(options.deferred) ? new DeferredAssertions() : null;
+        this.failFast = new FailFast(options.maxFailures, options.maxConsecutiveFailures);
+        this.adaptiveTimeouts = Boolean.TRUE.equals(options.adaptiveTimeout) ? new AdaptiveTimeouts() : null;
+        this.events = new AssertionEvents(listeners, Boolean.TRUE.equals(options.asyncListeners));
+        this.polling = options.pollingStrategy == null ? PollingStrategies.DEFAULT : options.pollingStrategy;
+        this.pollAll = options.pollingStrategy != null;
+        this.threadSafe = Boolean.TRUE.equals(options.threadSafe);
+        this.artifacts = options.artifactDirectory == null ? null : new FailureArtifacts(options.artifactDirectory);
+        this.executor = options.executor == null ? FanOutExecutors.defaultExecutor() : options.executor;
+        this.compactFailures = Boolean.TRUE.equals(options.compactFailures) && !Boolean.getBoolean(DEBUG_PROPERTY);
+        this.reportSink = options.reportSink;
+        this.report = new FailureReport(options.maxFailureMessageLength, options.maxReportLength);
+    }
+
+    /**
+     * Creates a group of {@code parent}. Everything but the failures, the failure counts and the count of reused
+     * assertions is shared with the parent. A timeout budget or failure limits of the group apply on top of those of
+     * the parent.
+     */
+    private SoftAssertionsImpl(SoftAssertionsImpl parent, String name, GroupOptions options) {
+        this.name = name;
+        this.results = new ResultCollector();
+        this.responseBodies = parent.responseBodies;
+        this.passedExpectations = parent.passedExpectations;
+        this.budget = options.timeoutBudget == null ? parent.budget : new TimeoutBudget(options.timeoutBudget, parent.budget);
+        this.deferred = parent.deferred == null ? null : new DeferredAssertions();
+        this.failFast = parent.failFast.withLimits(options.maxFailures, options.maxConsecutiveFailures);
+        this.adaptiveTimeouts = parent.adaptiveTimeouts;
+        this.events = parent.events;
+        this.polling = parent.polling;
+        this.pollAll = parent.pollAll;
+        this.threadSafe = parent.threadSafe;
+        this.artifacts = parent.artifacts;
+        this.executor = parent.executor;
+        this.compactFailures = parent.compactFailures;
+        this.reportSink = parent.reportSink;
+        this.report = parent.report;
     }
 
     @Override
     public PageAssertions assertThat(Page page) {
-        return new PageAssertionsImplProxy(page, results);
+        return proxies.get(page, this, PageAssertionsImplProxy::new);
     }
 
     @Override
     public LocatorAssertions assertThat(Locator locator) {
-        return new LocatorAssertionsImplProxy(locator, results);
+        return proxies.get(locator, this, LocatorAssertionsImplProxy::new);
     }
 
     @Override
     public APIResponseAssertions assertThat(APIResponse response) {
-        return new APIResponseAssertionsImplProxy(response, results);
+        return assertThatResponse(response);
+    }
+
+    @Override
+    public SoftAPIResponseAssertions assertThatResponse(APIResponse response) {
+        return proxies.get(response, this, APIResponseAssertionsImplProxy::new);
+    }
+
+    @Override
+    public SnapshotAssertions snapshot(Page page, SnapshotOptions options) {
+        return new SnapshotAssertionsImpl(this,
+                DomSnapshot.capture(page, options == null ? new SnapshotOptions() : options));
+    }
+
+    @Override
+    public TableAssertions assertThatTable(Locator rows) {
+        return new TableAssertionsImpl(rows, this);
+    }
+
+    @Override
+    public AsyncSoftAssertions async() {
+        AsyncSoftAssertionsImpl async = this.async;
+        if (async == null) {
+            synchronized (this) {
+                async = this.async;
+                if (async == null) {
+                    async = new AsyncSoftAssertionsImpl(this);
+                    this.async = async;
+                }
+            }
+        }
+        return async;
+    }
+
+    @Override
+    public <T> void assertThatEach(Collection<? extends T> targets, BiConsumer<SoftAssertions, ? super T> assertions) {
+        List<CompletableFuture<Void>> futures = new ArrayList<>();
+        for (T target : targets) {
+            futures.add(CompletableFuture.runAsync(() -> {
+                Boolean fanOut = FAN_OUT.get();
+                FAN_OUT.set(Boolean.TRUE);
+                try {
+                    assertions.accept(this, target);
+                } catch (AssertionFailedError | PlaywrightException failure) {
+                    addFailure(failure);
+                } finally {
+                    FAN_OUT.set(fanOut);
+                }
+            }, executor));
+        }
+
+        RuntimeException error = null;
+        for (CompletableFuture<Void> future : futures) {
+            try {
+                future.join();
+            } catch (CompletionException e) {
+                RuntimeException cause = e.getCause() instanceof RuntimeException ? (RuntimeException) e.getCause() : e;
+                if (error == null) {
+                    error = cause;
+                } else {
+                    error.addSuppressed(cause);
+                }
+            }
+        }
+        if (error != null) {
+            throw error;
+        }
+    }
+
+    @Override
+    public void group(String name, GroupOptions options, Consumer<SoftAssertions> assertions) {
+        SoftAssertionsImpl group = new SoftAssertionsImpl(this, name, options == null ? new GroupOptions() : options);
+        groups.add(group);
+        assertions.accept(group);
     }
 
     @Override
     public void assertAll() {
-        if (!results.isEmpty()) {
-            throw new AssertionFailedError(getFormattedErrorMessage());
+        awaitDeferred();
+        events.flush();
+        responseBodies.clear();
+        if (passedExpectations != null) {
+            passedExpectations.clear();
+        }
+        if (artifacts != null) {
+            artifacts.flush();
+        }
+        FailureReport.Section section = section();
+        int failureCount = section.failureCount();
+        if (failureCount == 0) {
+            return;
+        }
+        if (reportSink != null) {
+            report.writeTo(reportSink, section);
+            throw new AssertionFailedError(FailureReport.summary(failureCount, section.skippedCount(),
+                    section.reusedCount()));
+        }
+        throw new AssertionFailedError(report.format(section));
+    }
+
+    private void awaitDeferred() {
+        if (deferred != null) {
+            deferred.awaitAll(this);
+        }
+        AsyncSoftAssertionsImpl async = this.async;
+        if (async != null) {
+            async.awaitAll();
+        }
+        for (SoftAssertionsImpl group : groups) {
+            group.awaitDeferred();
+        }
+    }
+
+    private FailureReport.Section section() {
+        List<FailureReport.Section> sections = new ArrayList<>();
+        for (SoftAssertionsImpl group : groups) {
+            sections.add(group.section());
+        }
+        return new FailureReport.Section(name, results.snapshot(), failFast.skippedCount(), reused.get(), sections);
+    }
+
+    /**
+     * Counts an assertion that is not made because an identical one passed within the deduplication window.
+     */
+    void reused(String method, Object target, boolean negated) {
+        reused.incrementAndGet();
+        failFast.passed();
+        if (events.enabled()) {
+            events.completed(new AssertionRecord(method, target, negated, Instant.now(), Duration.ZERO, 0,
+                    AssertionRecord.Outcome.REUSED), null);
         }
     }
 
-    private String getFormattedErrorMessage() {
-        StringBuilder message = new StringBuilder();
-        message
-                .append(results.size())
-                .append(" assertion(s) failed:");
+    /**
+     * Whether assertions on {@code target} are handed to a {@link PlaywrightDispatcher} rather than made on the
+     * current thread.
+     */
+    boolean dispatches(Object target) {
+        return (threadSafe || FAN_OUT.get() != null) && PlaywrightDispatcher.canDispatch(target);
+    }
+
+    /**
+     * Hands {@code expectation} to the {@link PlaywrightDispatcher} of its target and waits until it is resolved.
+     */
+    void dispatch(Expectation expectation) {
+        events.started(expectation.method, expectation.target, expectation.negated);
+        try {
+            PlaywrightDispatcher.submit(this, expectation).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            if (e.getCause() instanceof Error) {
+                throw (Error) e.getCause();
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Runs {@code assertion} on {@code target} and records its failure, with {@code note} appended to the message if
+     * it is not {@code null}. Returns the recorded failure, or {@code null} if the assertion passed.
+     */
+    Throwable captureResult(Runnable assertion, Object target, String note) {
+        try {
+            assertion.run();
+            failFast.passed();
+            return null;
+        } catch (AssertionFailedError | PlaywrightException failure) {
+            Throwable recorded = withArtifacts(note == null ? failure : withNote(failure, note), target);
+            addFailure(recorded);
+            return recorded;
+        }
+    }
 
-        for (Throwable t : results) {
-            message.append("\n");
-            message.append("----------------------------------------\n");
-            message.append(t.getMessage());
+    /**
+     * Captures the {@link CreateOptions#artifactDirectory failure artifacts} of {@code target} and appends their paths
+     * to the message of {@code failure}.
+     */
+    Throwable withArtifacts(Throwable failure, Object target) {
+        String note = artifactNote(target);
+        return note == null ? failure : withNote(failure, note);
+    }
+
+    String artifactNote(Object target) {
+        return artifacts == null ? null : artifacts.capture(target);
+    }
+
+    void addFailure(Throwable failure) {
+        failFast.failed();
+        recordFailure(failure);
+    }
+
+    static Throwable withNote(Throwable failure, String note) {
+        String message = failure.getMessage() + "\n" + note;
+        Throwable annotated;
+        if (failure instanceof AssertionFailedError) {
+            AssertionFailedError assertionFailure = (AssertionFailedError) failure;
+            annotated = new AssertionFailedError(message,
+                    assertionFailure.isExpectedDefined() ? assertionFailure.getExpected().getValue() : null,
+                    assertionFailure.isActualDefined() ? assertionFailure.getActual().getValue() : null,
+                    failure);
+        } else {
+            annotated = new PlaywrightException(message, failure);
         }
+        annotated.setStackTrace(failure.getStackTrace());
+        return annotated;
+    }
 
-        return message.toString();
+    void recordFailure(Throwable failure) {
+        results.add(compactFailures ? FailureRecord.of(failure) : failure);
     }
 }
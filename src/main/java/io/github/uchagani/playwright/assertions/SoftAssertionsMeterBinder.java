@@ -0,0 +1,45 @@
+package io.github.uchagani.playwright.assertions;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+import java.util.Locale;
+
+/**
+ * Publishes every {@link AssertionRecord} as a {@code playwright.soft.assertions} timer tagged with the assertion
+ * method, the {@link AssertionRecord#targetKind() kind} of its target and its outcome. The target itself is left out,
+ * as selectors and URLs would create a timer per distinct value. Requires Micrometer on the classpath.
+ * <pre>{@code
+ * SoftAssertionsMeterBinder metrics = new SoftAssertionsMeterBinder();
+ * metrics.bindTo(registry);
+ * SoftAssertions softly = SoftAssertions.create(new SoftAssertions.CreateOptions()
+ *         .setListeners(Collections.singletonList(metrics)));
+ * }</pre>
+ * Records received before {@link #bindTo} is called are dropped.
+ */
+public class SoftAssertionsMeterBinder implements MeterBinder, SoftAssertionListener {
+    public static final String METER_NAME = "playwright.soft.assertions";
+
+    private volatile MeterRegistry registry;
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    @Override
+    public void assertionCompleted(AssertionRecord record) {
+        MeterRegistry registry = this.registry;
+        if (registry == null) {
+            return;
+        }
+        Timer.builder(METER_NAME)
+                .description("Time spent in soft assertions")
+                .tag("method", record.negated() ? "not." + record.method() : record.method())
+                .tag("kind", record.targetKind().name().toLowerCase(Locale.ROOT))
+                .tag("outcome", record.outcome().name().toLowerCase(Locale.ROOT))
+                .register(registry)
+                .record(record.duration());
+    }
+}
@@ -0,0 +1,41 @@
+package io.github.uchagani.playwright.assertions;
+
+import java.util.List;
+
+/**
+ * Soft assertions on a table or grid, made through {@link SoftAssertions#assertThatTable}. The texts of all cells are
+ * read with a single evaluation in the browser and compared in Java, and every mismatching cell is recorded as a
+ * separate failure.
+ */
+public interface TableAssertions {
+    class HasCellTextsOptions {
+        /**
+         * Selector, relative to a row, matching the cells of that row. Defaults to {@code :scope > td, :scope > th}.
+         */
+        public String cellSelector;
+        /**
+         * Time to retry the assertion for in milliseconds. Defaults to the default assertion timeout.
+         */
+        public Double timeout;
+
+        public HasCellTextsOptions setCellSelector(String cellSelector) {
+            this.cellSelector = cellSelector;
+            return this;
+        }
+
+        public HasCellTextsOptions setTimeout(double timeout) {
+            this.timeout = timeout;
+            return this;
+        }
+    }
+
+    default void hasCellTexts(List<List<String>> expected) {
+        hasCellTexts(expected, null);
+    }
+
+    /**
+     * Ensures the rows have exactly the {@code expected} cell texts, row by row. Texts are compared after trimming and
+     * collapsing whitespace, like {@code hasText}.
+     */
+    void hasCellTexts(List<List<String>> expected, HasCellTextsOptions options);
+}
@@ -0,0 +1,123 @@
+package io.github.uchagani.playwright.assertions;
+
+import com.microsoft.playwright.Locator;
+import com.microsoft.playwright.PlaywrightException;
+import org.opentest4j.AssertionFailedError;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+class TableAssertionsImpl extends SoftAssertionsBase implements TableAssertions {
+    static final String DEFAULT_CELL_SELECTOR = ":scope > td, :scope > th";
+    private static final String CELL_TEXTS = "(rows, cellSelector) => rows.map(row => "
+            + "Array.from(row.querySelectorAll(cellSelector), cell => cell.textContent))";
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private final Locator rows;
+
+    TableAssertionsImpl(Locator rows, SoftAssertionsImpl softly) {
+        super(softly, rows, false);
+        this.rows = rows;
+    }
+
+    @Override
+    public void hasCellTexts(List<List<String>> expected, HasCellTextsOptions options) {
+        String method = "hasCellTexts";
+        if (skip(method)) {
+            return;
+        }
+
+        String cellSelector = options == null || options.cellSelector == null
+                ? DEFAULT_CELL_SELECTOR
+                : options.cellSelector;
+        Double requestedTimeout = options == null ? null : options.timeout;
+        TimeoutBudget budget = softly.budget;
+        double timeout = budget != null ? budget.timeoutFor(requestedTimeout)
+                : requestedTimeout != null ? requestedTimeout : Timeouts.defaultAssertionTimeout();
+        AssertionEvents events = softly.events;
+        Instant startTime = events.enabled() ? Instant.now() : null;
+        long start = System.nanoTime();
+        long deadline = timeout == 0 ? Long.MAX_VALUE : start + TimeUnit.MICROSECONDS.toNanos((long) (timeout * 1000));
+
+        events.started(method, target, negated);
+        List<Throwable> failures;
+        int attempts = 0;
+        try {
+            while (true) {
+                attempts++;
+                failures = compare(expected, cellTexts(cellSelector));
+                if (failures.isEmpty() || System.nanoTime() >= deadline) {
+                    break;
+                }
+                softly.polling.waitForNextCheck(rows.page(), attempts);
+            }
+        } catch (PlaywrightException failure) {
+            failures = new ArrayList<>(Collections.singletonList(failure));
+        }
+
+        long elapsed = System.nanoTime() - start;
+        if (budget != null) {
+            budget.consume(elapsed);
+        }
+        if (failures.isEmpty()) {
+            softly.failFast.passed();
+        } else {
+            // One set of artifacts for the whole table rather than one per cell.
+            String note = softly.artifactNote(target);
+            for (int i = 0; i < failures.size(); i++) {
+                Throwable failure = failures.get(i);
+                failures.set(i, note == null ? failure : SoftAssertionsImpl.withNote(failure, note));
+                softly.addFailure(failures.get(i));
+            }
+        }
+        if (events.enabled()) {
+            AssertionRecord.Outcome outcome = failures.isEmpty()
+                    ? AssertionRecord.Outcome.PASSED
+                    : AssertionRecord.Outcome.FAILED;
+            events.completed(new AssertionRecord(method, target, negated, startTime, Duration.ofNanos(elapsed), attempts,
+                    outcome), failures.isEmpty() ? null : failures.get(0));
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<List<String>> cellTexts(String cellSelector) {
+        return (List<List<String>>) rows.evaluateAll(CELL_TEXTS, cellSelector);
+    }
+
+    private List<Throwable> compare(List<List<String>> expected, List<List<String>> actual) {
+        List<Throwable> failures = new ArrayList<>();
+        String selector = Locators.selector(rows);
+        if (expected.size() != actual.size()) {
+            failures.add(new AssertionFailedError("Expected " + expected.size() + " rows but found " + actual.size()
+                    + " matching " + selector, expected.size(), actual.size()));
+        }
+        for (int row = 0; row < Math.min(expected.size(), actual.size()); row++) {
+            List<String> expectedRow = expected.get(row);
+            List<String> actualRow = actual.get(row);
+            if (expectedRow.size() != actualRow.size()) {
+                failures.add(new AssertionFailedError("Expected " + expectedRow.size() + " cells but found "
+                        + actualRow.size() + " in row " + row + " of " + selector, expectedRow, actualRow));
+            }
+            for (int column = 0; column < Math.min(expectedRow.size(), actualRow.size()); column++) {
+                String expectedText = normalize(expectedRow.get(column));
+                String actualText = normalize(actualRow.get(column));
+                if (!Objects.equals(expectedText, actualText)) {
+                    failures.add(new AssertionFailedError("Cell [row " + row + ", column " + column + "] of "
+                            + selector + ": expected \"" + expectedText + "\" but was \"" + actualText + "\"",
+                            expectedText, actualText));
+                }
+            }
+        }
+        return failures;
+    }
+
+    private static String normalize(String text) {
+        return text == null ? null : WHITESPACE.matcher(text.trim()).replaceAll(" ");
+    }
+}
@@ -0,0 +1,56 @@
+package io.github.uchagani.playwright.assertions;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Wall-clock time shared by every assertion made through one {@link SoftAssertions} instance.
+ * Each assertion is handed at most what is left of the budget and the time it actually took is
+ * deducted afterwards, so once the budget is spent the remaining assertions only get a single quick check.
+ * <p>
+ * The budget of a group is also drawn from the budget of its parent, so a group cannot spend more than is left of
+ * either.
+ */
+class TimeoutBudget {
+    // Playwright treats a timeout of 0 as "wait forever", so an exhausted budget still hands out 1ms.
+    static final double MIN_TIMEOUT = 1;
+
+    private final AtomicLong remainingNanos;
+    private final TimeoutBudget parent;
+
+    TimeoutBudget(double budgetMillis) {
+        this(budgetMillis, null);
+    }
+
+    /**
+     * @param parent the budget the time taken is also deducted from, or {@code null}
+     */
+    TimeoutBudget(double budgetMillis, TimeoutBudget parent) {
+        if (budgetMillis < 0) {
+            throw new IllegalArgumentException("Timeout budget must not be negative: " + budgetMillis);
+        }
+        this.remainingNanos = new AtomicLong(TimeUnit.MICROSECONDS.toNanos((long) (budgetMillis * 1000)));
+        this.parent = parent;
+    }
+
+    double remaining() {
+        double remaining = Math.max(0, remainingNanos.get()) / 1_000_000.0;
+        return parent == null ? remaining : Math.min(remaining, parent.remaining());
+    }
+
+    double timeoutFor(Double requestedTimeout) {
+        double timeout = requestedTimeout == null ? Timeouts.defaultAssertionTimeout() : requestedTimeout;
+        double remaining = remaining();
+        if (timeout == 0 || timeout > remaining) {
+            timeout = remaining;
+        }
+        return Math.max(MIN_TIMEOUT, timeout);
+    }
+
+    void consume(long elapsedNanos) {
+        remainingNanos.addAndGet(-elapsedNanos);
+        if (parent != null) {
+            parent.consume(elapsedNanos);
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package io.github.uchagani.playwright.assertions;
+
+import com.microsoft.playwright.impl.AssertionsTimeout;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * Reads and rewrites the {@code timeout} of Playwright's assertion options classes. Every options class
+ * ({@code IsVisibleOptions}, {@code HasTitleOptions}, ...) exposes its settings as public fields, so they are
+ * copied reflectively rather than with one hand written copy per class. The caller's options are never modified.
+ */
+final class Timeouts {
+    static final double PLAYWRIGHT_DEFAULT_TIMEOUT = 5_000;
+
+    private static final Field DEFAULT_TIMEOUT = defaultTimeoutField();
+
+    private static final ClassValue<Field[]> OPTION_FIELDS = new ClassValue<Field[]>() {
+        @Override
+        protected Field[] computeValue(Class<?> type) {
+            List<Field> fields = new ArrayList<>();
+            for (Field field : type.getFields()) {
+                if (!Modifier.isStatic(field.getModifiers()) && !Modifier.isFinal(field.getModifiers())) {
+                    fields.add(field);
+                }
+            }
+            return fields.toArray(new Field[0]);
+        }
+    };
+
+    private Timeouts() {
+    }
+
+    static double defaultAssertionTimeout() {
+        if (DEFAULT_TIMEOUT == null) {
+            return PLAYWRIGHT_DEFAULT_TIMEOUT;
+        }
+        try {
+            return DEFAULT_TIMEOUT.getDouble(null);
+        } catch (IllegalAccessException e) {
+            return PLAYWRIGHT_DEFAULT_TIMEOUT;
+        }
+    }
+
+    static Double timeoutOf(Object options) {
+        if (options == null) {
+            return null;
+        }
+        Field field = timeoutField(options.getClass());
+        try {
+            return field == null ? null : (Double) field.get(options);
+        } catch (IllegalAccessException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Returns {@code true} if no option other than the timeout has been set.
+     */
+    static boolean onlyTimeoutSet(Object options) {
+        if (options == null) {
+            return true;
+        }
+        try {
+            for (Field field : OPTION_FIELDS.get(options.getClass())) {
+                if (!field.getName().equals("timeout") && field.get(options) != null) {
+                    return false;
+                }
+            }
+        } catch (IllegalAccessException e) {
+            throw new IllegalStateException(e);
+        }
+        return true;
+    }
+
+    static <T> T withTimeout(T options, Supplier<T> optionsFactory, double timeout) {
+        T copy = optionsFactory.get();
+        Field[] fields = OPTION_FIELDS.get(copy.getClass());
+        try {
+            if (options != null) {
+                for (Field field : fields) {
+                    field.set(copy, field.get(options));
+                }
+            }
+            Field field = timeoutField(copy.getClass());
+            if (field != null) {
+                field.set(copy, timeout);
+            }
+        } catch (IllegalAccessException e) {
+            throw new IllegalStateException(e);
+        }
+        return copy;
+    }
+
+    // PlaywrightAssertions.setDefaultAssertionTimeout() stores the value in a package-private field.
+    private static Field defaultTimeoutField() {
+        try {
+            Field field = AssertionsTimeout.class.getDeclaredField("defaultTimeout");
+            field.setAccessible(true);
+            return field;
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            return null;
+        }
+    }
+
+    private static Field timeoutField(Class<?> type) {
+        for (Field field : OPTION_FIELDS.get(type)) {
+            if (field.getName().equals("timeout")) {
+                return field;
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,53 @@
+package io.github.uchagani.playwright.assertions;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+
+class WriterReportSink implements ReportSink {
+    private final Writer writer;
+
+    WriterReportSink(Writer writer) {
+        this.writer = writer;
+    }
+
+    @Override
+    public void begin(int failureCount, int skippedCount) {
+        begin(failureCount, skippedCount, 0);
+    }
+
+    @Override
+    public void begin(int failureCount, int skippedCount, int reusedCount) {
+        write(FailureReport.header(failureCount, skippedCount, reusedCount) + ":");
+    }
+
+    @Override
+    public void failure(int index, String message) {
+        write("\n" + FailureReport.SEPARATOR + message);
+    }
+
+    @Override
+    public void end(int omittedCount) {
+        if (omittedCount > 0) {
+            write("\n" + FailureReport.SEPARATOR + FailureReport.omitted(omittedCount));
+        }
+        write("\n");
+    }
+
+    void close() {
+        try {
+            writer.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void write(String text) {
+        try {
+            writer.write(text);
+            writer.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package io.github.uchagani.playwright.assertions;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonNull;
+import com.google.gson.JsonParser;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TestJsonPath {
+    private final JsonElement json = JsonParser.parseString(
+            "{\"store\": {\"books\": [{\"title\": \"A\", \"price\": 8.5}, {\"title\": \"B\", \"tags\": [\"x\"]}],"
+                    + " \"odd key\": null, \"count\": 2}}");
+
+    @Test
+    void findsMembersAndIndexes() {
+        assertEquals("A", JsonPath.parse("$.store.books[0].title").find(json).getAsString());
+        assertEquals("B", JsonPath.parse("store.books[1]['title']").find(json).getAsString());
+        assertEquals("x", JsonPath.parse("$['store'][\"books\"][1].tags[0]").find(json).getAsString());
+        assertEquals(json, JsonPath.parse("$").find(json));
+    }
+
+    @Test
+    void distinguishesNullFromMissing() {
+        assertEquals(JsonNull.INSTANCE, JsonPath.parse("$.store['odd key']").find(json));
+        assertNull(JsonPath.parse("$.store.missing").find(json));
+        assertNull(JsonPath.parse("$.store.books[5]").find(json));
+        assertNull(JsonPath.parse("$.store.count.value").find(json));
+    }
+
+    @Test
+    void rejectsInvalidPaths() {
+        assertThrows(IllegalArgumentException.class, () -> JsonPath.parse("$.store..books"));
+        assertThrows(IllegalArgumentException.class, () -> JsonPath.parse("$.books[0"));
+        assertThrows(IllegalArgumentException.class, () -> JsonPath.parse("$.books[first]"));
+    }
+
+    @Test
+    void convertsToJavaValues() {
+        assertEquals(2L, JsonValues.toJava(JsonPath.parse("$.store.count").find(json)));
+        assertEquals(8.5, JsonValues.toJava(JsonPath.parse("$.store.books[0].price").find(json)));
+        assertEquals(Collections.singletonList("x"), JsonValues.toJava(JsonPath.parse("$.store.books[1].tags").find(json)));
+        Map<?, ?> book = (Map<?, ?>) JsonValues.toJava(JsonPath.parse("$.store.books[0]").find(json));
+        assertEquals(Arrays.asList("title", "price"), new ArrayList<>(book.keySet()));
+    }
+}
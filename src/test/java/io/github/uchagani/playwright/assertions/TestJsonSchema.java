@@ -0,0 +1,47 @@
+package io.github.uchagani.playwright.assertions;
+
+import com.google.gson.JsonParser;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TestJsonSchema {
+    private static final String SCHEMA = "{\"type\": \"object\", \"required\": [\"id\", \"name\"],"
+            + " \"additionalProperties\": false,"
+            + " \"properties\": {"
+            + "   \"id\": {\"type\": \"integer\", \"minimum\": 1},"
+            + "   \"name\": {\"type\": \"string\", \"minLength\": 1, \"pattern\": \"^[A-Z]\"},"
+            + "   \"status\": {\"enum\": [\"active\", \"inactive\"]},"
+            + "   \"tags\": {\"type\": \"array\", \"maxItems\": 2, \"items\": {\"type\": \"string\"}}}}";
+
+    @Test
+    void acceptsMatchingDocument() {
+        assertEquals(0, validate("{\"id\": 1, \"name\": \"Alice\", \"status\": \"active\", \"tags\": [\"a\"]}").size());
+    }
+
+    @Test
+    void reportsEveryViolation() {
+        List<String> errors = validate("{\"id\": 0.5, \"name\": \"alice\", \"status\": \"gone\","
+                + " \"tags\": [\"a\", 2, \"c\"], \"extra\": true}");
+
+        assertTrue(errors.contains("$.id: expected type \"integer\" but was number"), errors.toString());
+        assertTrue(errors.contains("$.name: \"alice\" does not match pattern \"^[A-Z]\""), errors.toString());
+        assertTrue(errors.contains("$.status: expected one of [\"active\",\"inactive\"] but was \"gone\""), errors.toString());
+        assertTrue(errors.contains("$.tags: expected at most 2 items but found 3"), errors.toString());
+        assertTrue(errors.contains("$.tags[1]: expected type \"string\" but was integer"), errors.toString());
+        assertTrue(errors.contains("$: unexpected property \"extra\""), errors.toString());
+        assertEquals(6, errors.size(), errors.toString());
+    }
+
+    @Test
+    void reportsMissingRequiredProperties() {
+        assertEquals(1, validate("{\"id\": 2}").size());
+        assertEquals(1, validate("[]").size());
+    }
+
+    private static List<String> validate(String json) {
+        return JsonSchema.validate(JsonParser.parseString(SCHEMA), JsonParser.parseString(json));
+    }
+}
@@ -0,0 +1,61 @@
+package io.github.uchagani.playwright.assertions;
+
+import com.microsoft.playwright.assertions.LocatorAssertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.regex.Pattern;
+
+import static java.util.regex.Pattern.CASE_INSENSITIVE;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TestPassedExpectations {
+    private final Object page = new Object();
+
+    @Test
+    void identicalAssertionsHaveEqualKeys() {
+        assertEquals(
+                PassedExpectations.key(page, "hasText", false, new Object[]{Pattern.compile("a+", CASE_INSENSITIVE)},
+                        new LocatorAssertions.HasTextOptions().setTimeout(1_000).setUseInnerText(true)),
+                PassedExpectations.key(page, "hasText", false, new Object[]{Pattern.compile("a+", CASE_INSENSITIVE)},
+                        new LocatorAssertions.HasTextOptions().setTimeout(1_000).setUseInnerText(true)));
+        assertEquals(
+                PassedExpectations.key(page, "hasText", false, new Object[]{new String[]{"a", "b"}}, null),
+                PassedExpectations.key(page, "hasText", false, new Object[]{new String[]{"a", "b"}}, null));
+    }
+
+    @Test
+    void differentAssertionsHaveDifferentKeys() {
+        List<Object> key = PassedExpectations.key(page, "hasText", false, new Object[]{"a"},
+                new LocatorAssertions.HasTextOptions().setTimeout(1_000));
+        assertNotEquals(key, PassedExpectations.key(new Object(), "hasText", false, new Object[]{"a"},
+                new LocatorAssertions.HasTextOptions().setTimeout(1_000)));
+        assertNotEquals(key, PassedExpectations.key(page, "containsText", false, new Object[]{"a"},
+                new LocatorAssertions.HasTextOptions().setTimeout(1_000)));
+        assertNotEquals(key, PassedExpectations.key(page, "hasText", true, new Object[]{"a"},
+                new LocatorAssertions.HasTextOptions().setTimeout(1_000)));
+        assertNotEquals(key, PassedExpectations.key(page, "hasText", false, new Object[]{"b"},
+                new LocatorAssertions.HasTextOptions().setTimeout(1_000)));
+        assertNotEquals(key, PassedExpectations.key(page, "hasText", false, new Object[]{"a"},
+                new LocatorAssertions.HasTextOptions().setTimeout(2_000)));
+        assertNotEquals(key, PassedExpectations.key(page, "hasText", false, new Object[]{"a"}, null));
+        assertNotEquals(
+                PassedExpectations.key(page, "hasText", false, new Object[]{Pattern.compile("a")}, null),
+                PassedExpectations.key(page, "hasText", false, new Object[]{Pattern.compile("a", CASE_INSENSITIVE)},
+                        null));
+    }
+
+    @Test
+    void passesAreFreshForTheWindowOnly() throws InterruptedException {
+        PassedExpectations passed = new PassedExpectations(200);
+        List<Object> key = PassedExpectations.key(page, "isVisible", false, new Object[0], null);
+        assertFalse(passed.isFresh(key));
+        passed.passed(key);
+        assertTrue(passed.isFresh(key));
+        Thread.sleep(300);
+        assertFalse(passed.isFresh(key));
+        passed.passed(key);
+        passed.clear();
+        assertFalse(passed.isFresh(key));
+    }
+}
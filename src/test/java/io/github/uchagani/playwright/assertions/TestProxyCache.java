@@ -0,0 +1,44 @@
+package io.github.uchagani.playwright.assertions;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+public class TestProxyCache {
+    private final AtomicInteger created = new AtomicInteger();
+
+    @Test
+    void reusesProxyForSameTarget() {
+        ProxyCache cache = new ProxyCache();
+        Object target = new Object();
+        Object first = cache.get(target, null, this::create);
+        Object second = cache.get(target, null, this::create);
+
+        assertSame(first, second);
+        assertNotSame(first, cache.get(new Object(), null, this::create));
+        assertEquals(2, created.get());
+    }
+
+    @Test
+    void startsOverWhenFull() {
+        ProxyCache cache = new ProxyCache();
+        Object target = new Object();
+        Object first = cache.get(target, null, this::create);
+        Object[] others = new Object[ProxyCache.MAX_SIZE];
+        for (int i = 0; i < others.length; i++) {
+            others[i] = new Object();
+            cache.get(others[i], null, this::create);
+        }
+
+        assertNotSame(first, cache.get(target, null, this::create));
+    }
+
+    private Object create(Object target, SoftAssertionsImpl softly) {
+        created.incrementAndGet();
+        return new Object[]{target};
+    }
+}
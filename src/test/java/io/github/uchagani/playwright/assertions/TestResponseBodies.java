@@ -0,0 +1,120 @@
+package io.github.uchagani.playwright.assertions;
+
+import com.microsoft.playwright.APIResponse;
+import com.microsoft.playwright.options.HttpHeader;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TestResponseBodies {
+    @Test
+    void readsEachBodyOnce() {
+        ResponseBodies bodies = new ResponseBodies(null);
+        FakeResponse response = new FakeResponse("{\"name\": \"Zoë\"}", "application/json; charset=UTF-8");
+        for (int i = 0; i < 3; i++) {
+            assertEquals("Zoë", bodies.json(response).getAsJsonObject().get("name").getAsString());
+            assertTrue(bodies.text(response).contains("Zoë"));
+        }
+        assertSame(bodies.json(response), bodies.json(response));
+        assertEquals(1, response.reads);
+    }
+
+    @Test
+    void decodesWithCharsetOfContentType() {
+        ResponseBodies bodies = new ResponseBodies(null);
+        FakeResponse response = new FakeResponse("café".getBytes(StandardCharsets.ISO_8859_1), "text/plain; charset=\"ISO-8859-1\"");
+        assertEquals("café", bodies.text(response));
+    }
+
+    @Test
+    void dropsLeastRecentlyUsedBodiesOverLimit() {
+        ResponseBodies bodies = new ResponseBodies(25);
+        FakeResponse first = new FakeResponse("0123456789", null);
+        FakeResponse second = new FakeResponse("0123456789", null);
+        FakeResponse third = new FakeResponse("0123456789", null);
+        bodies.bytes(first);
+        bodies.bytes(second);
+        bodies.bytes(first);
+        bodies.bytes(third);
+
+        bodies.bytes(first);
+        bodies.bytes(second);
+        assertEquals(1, first.reads);
+        assertEquals(2, second.reads);
+    }
+
+    @Test
+    void forgetsBodiesOnClear() {
+        ResponseBodies bodies = new ResponseBodies(null);
+        FakeResponse response = new FakeResponse("text", null);
+        bodies.text(response);
+        bodies.clear();
+        bodies.text(response);
+        assertEquals(2, response.reads);
+    }
+
+    private static class FakeResponse implements APIResponse {
+        private final byte[] body;
+        private final String contentType;
+        int reads;
+
+        FakeResponse(String body, String contentType) {
+            this(body.getBytes(StandardCharsets.UTF_8), contentType);
+        }
+
+        FakeResponse(byte[] body, String contentType) {
+            this.body = body;
+            this.contentType = contentType;
+        }
+
+        @Override
+        public byte[] body() {
+            reads++;
+            return body;
+        }
+
+        @Override
+        public void dispose() {
+        }
+
+        @Override
+        public Map<String, String> headers() {
+            return contentType == null ? Collections.emptyMap() : Collections.singletonMap("content-type", contentType);
+        }
+
+        @Override
+        public List<HttpHeader> headersArray() {
+            return Collections.emptyList();
+        }
+
+        @Override
+        public boolean ok() {
+            return true;
+        }
+
+        @Override
+        public int status() {
+            return 200;
+        }
+
+        @Override
+        public String statusText() {
+            return "OK";
+        }
+
+        @Override
+        public String text() {
+            return new String(body(), StandardCharsets.UTF_8);
+        }
+
+        @Override
+        public String url() {
+            return "http://localhost/";
+        }
+    }
+}
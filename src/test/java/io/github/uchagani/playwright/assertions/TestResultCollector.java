@@ -0,0 +1,62 @@
+package io.github.uchagani.playwright.assertions;
+
+import org.junit.jupiter.api.Test;
+import org.opentest4j.AssertionFailedError;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class TestResultCollector {
+    @Test
+    void keepsEveryFailureAddedConcurrently() throws InterruptedException {
+        ResultCollector results = new ResultCollector();
+        int threads = 8;
+        int failuresPerThread = 1_000;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        for (int t = 0; t < threads; t++) {
+            int thread = t;
+            executor.execute(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                for (int i = 0; i < failuresPerThread; i++) {
+                    results.add(new AssertionFailedError(thread + ":" + i));
+                }
+            });
+        }
+        start.countDown();
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(30, TimeUnit.SECONDS));
+
+        assertEquals(threads * failuresPerThread, results.size());
+        assertEquals(threads * failuresPerThread, results.snapshot().size());
+
+        int[] next = new int[threads];
+        for (Throwable failure : results) {
+            String[] parts = failure.getMessage().split(":");
+            int thread = Integer.parseInt(parts[0]);
+            assertEquals(next[thread]++, Integer.parseInt(parts[1]), "Failures of one thread must keep their order");
+        }
+    }
+
+    @Test
+    void snapshotIsNotAffectedByLaterFailures() {
+        ResultCollector results = new ResultCollector();
+        results.add(new AssertionFailedError("first"));
+        List<Throwable> snapshot = results.snapshot();
+        results.add(new AssertionFailedError("second"));
+
+        assertEquals(1, snapshot.size());
+        assertEquals(2, new ArrayList<>(results).size());
+    }
+}
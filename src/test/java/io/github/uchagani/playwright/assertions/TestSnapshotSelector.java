@@ -0,0 +1,157 @@
+package io.github.uchagani.playwright.assertions;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+public class TestSnapshotSelector {
+    // <html><body><form id="login" class="card wide"><input name="user" data-test="user-name">
+    // <span class="hint">Hi</span></form><div class="card"><span>Bye</span></div><my-widget>(shadow: <b>)</body></html>
+    private final DomSnapshot snapshot = snapshot(
+            element("html", -1),
+            element("body", 0),
+            element("form", 1, "id", "login", "class", "card wide"),
+            element("input", 2, "name", "user", "data-test", "user-name"),
+            element("span", 2, "class", "hint"),
+            element("div", 1, "class", "card"),
+            element("span", 5),
+            element("my-widget", 1),
+            element("b", 7));
+
+    @Test
+    void matchesSimpleSelectors() {
+        assertMatches("span", 4, 6);
+        assertMatches("#login", 2);
+        assertMatches(".card", 2, 5);
+        assertMatches("form.card.wide", 2);
+        assertMatches("[name]", 3);
+        assertMatches("[data-test=user-name]", 3);
+        assertMatches("[data-test='user-name']", 3);
+        assertMatches("[data-test^=user]", 3);
+        assertMatches("[data-test$=name]", 3);
+        assertMatches("[data-test*=\"r-n\"]", 3);
+        assertMatches("[class~=wide]", 2);
+        assertMatches("[name=USER i]", 3);
+        assertMatches("*", 0, 1, 2, 3, 4, 5, 6, 7, 8);
+    }
+
+    @Test
+    void matchesCombinatorsListsAndChains() {
+        assertMatches("form span", 4);
+        assertMatches("body > span");
+        assertMatches("div > span", 6);
+        assertMatches("body .card span", 4, 6);
+        assertMatches("input, .hint", 3, 4);
+        assertMatches(".card >> span", 4, 6);
+        assertMatches("css=#login >> css=.hint", 4);
+        assertMatches("my-widget b", 8);
+        assertMatches("my-widget > b", 8);
+    }
+
+    @Test
+    void leavesOtherSelectorsToPlaywright() {
+        for (String selector : new String[]{"text=\"Hi\"", "internal:text=\"Hi\"s", "internal:role=button",
+                "//span", "span:visible", "span >> nth=0", "\"Hi\"", "form + div", "div ~ span", "#a\\:b",
+                "[name=\"a\\\"b\"]", "", "span >> ", "span:has(b)"}) {
+            assertNull(snapshot.select(selector), selector);
+        }
+    }
+
+    @Test
+    void matchesTextLikePlaywrightsLaxTextEngine() {
+        // <body><p>Hello <b>World</b></p><div><span>hello</span></div><my-card>(shadow: <i>Hello</i>)</my-card>
+        // <script>hello</script></body>
+        DomSnapshot texts = snapshot(
+                element("body", -1),
+                text(element("p", 0), "Hello World"),
+                text(element("b", 1), "World"),
+                text(element("div", 0), "hello"),
+                text(element("span", 3), "hello"),
+                shadowText(text(element("my-card", 0), "Hello"), "Hello"),
+                shadow(text(element("i", 5), "Hello")),
+                skipsText(text(element("script", 0), "")));
+
+        assertMatches(texts, "internal:text=\"hello\"i", 1, 4, 6);
+        assertMatches(texts, "text=WORLD", 2);
+        assertMatches(texts, "internal:text=\"hello world\"i", 1);
+        assertMatches(texts, "div >> internal:text=\"hello\"i", 4);
+        assertMatches(texts, "span >> internal:text=\"hello\"i", 4);
+        assertMatches(texts, "internal:text=\"bye\"i");
+    }
+
+    @Test
+    void matchesTestIds() {
+        DomSnapshot testIds = snapshot(
+                element("body", -1),
+                element("button", 0, "data-testid", "submit"),
+                element("button", 0, "data-testid", "cancel"));
+
+        assertMatches(testIds, "internal:testid=[data-testid=\"submit\"s]", 1);
+        assertMatches(testIds, "internal:attr=[data-testid=\"cancel\"s]", 2);
+        assertNull(testIds.select("internal:attr=[data-testid=\"cancel\"i]"));
+    }
+
+    private void assertMatches(String selector, int... expected) {
+        assertMatches(snapshot, selector, expected);
+    }
+
+    private static void assertMatches(DomSnapshot snapshot, String selector, int... expected) {
+        List<Integer> actual = new ArrayList<>();
+        for (DomSnapshot.Element element : snapshot.select(selector)) {
+            actual.add(element.index);
+        }
+        List<Integer> expectedIndexes = new ArrayList<>();
+        for (int index : expected) {
+            expectedIndexes.add(index);
+        }
+        assertEquals(expectedIndexes, actual, selector);
+    }
+
+    @SafeVarargs
+    private static DomSnapshot snapshot(Map<String, Object>... elements) {
+        List<Map<String, Object>> serialized = new ArrayList<>();
+        Collections.addAll(serialized, elements);
+        return new DomSnapshot(null, DomSnapshot.DEFAULT_CSS_PROPERTIES, serialized);
+    }
+
+    private static Map<String, Object> element(String tag, int parent, String... attributes) {
+        Map<String, Object> attributeMap = new HashMap<>();
+        for (int i = 0; i < attributes.length; i += 2) {
+            attributeMap.put(attributes[i], attributes[i + 1]);
+        }
+        Map<String, Object> element = new HashMap<>();
+        element.put("tag", tag);
+        element.put("parent", parent);
+        element.put("attributes", attributeMap);
+        element.put("css", Collections.emptyMap());
+        element.put("text", "");
+        return element;
+    }
+
+    private static Map<String, Object> text(Map<String, Object> element, String text) {
+        element.put("text", text);
+        return element;
+    }
+
+    private static Map<String, Object> shadowText(Map<String, Object> element, String text) {
+        element.put("shadowText", text);
+        return element;
+    }
+
+    private static Map<String, Object> shadow(Map<String, Object> element) {
+        element.put("shadow", true);
+        return element;
+    }
+
+    private static Map<String, Object> skipsText(Map<String, Object> element) {
+        element.put("skipsText", true);
+        return element;
+    }
+}
@@ -13,6 +13,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.RegisterExtension;
 import org.opentest4j.AssertionFailedError;
 
+import java.util.Collections;
 import java.util.UUID;
 
 import static com.github.tomakehurst.wiremock.client.WireMock.*;
@@ -120,4 +121,79 @@ public class TestSoftAPIResponseAssertions {
         assertFalse(e.getMessage().contains("Image type error"));
         assertFailureCount(softly, 4);
     }
+
+    @Test
+    void checksStatusAndHeaders() {
+        wireMock.stubFor(get(path).willReturn(status(201).withHeader("X-Request-Id", "abc")));
+        APIResponse res = request.get(path);
+        softly.assertThatResponse(res).hasStatus(201);
+        softly.assertThatResponse(res).hasHeader("x-request-id", "abc");
+        softly.assertThatResponse(res).not().hasHeader("X-Missing");
+        softly.assertAll();
+
+        softly.assertThatResponse(res).hasStatus(200);
+        softly.assertThatResponse(res).hasHeader("X-Request-Id", "def");
+        AssertionFailedError e = assertThrows(AssertionFailedError.class, () -> softly.assertAll());
+        assertTrue(e.getMessage().contains("Response status expected to be 200, was 201"), e.getMessage());
+        assertTrue(e.getMessage().contains("Response header \"X-Request-Id\" expected to be \"def\", was \"abc\""), e.getMessage());
+        assertFailureCount(softly, 2);
+    }
+
+    @Test
+    void checksJsonPaths() {
+        wireMock.stubFor(get(path).willReturn(okJson("{\"user\": {\"name\": \"Alice\", \"age\": 30, \"tags\": [\"a\", \"b\"]}}")));
+        APIResponse res = request.get(path);
+        softly.assertThatResponse(res).hasJsonPath("$.user.name", "Alice"::equals);
+        softly.assertThatResponse(res).hasJsonPath("$.user.age", age -> (Long) age >= 18);
+        softly.assertThatResponse(res).hasJsonPath("$.user.tags[1]", "b"::equals);
+        softly.assertThatResponse(res).not().hasJsonPath("$.user.email", value -> true);
+        softly.assertAll();
+
+        softly.assertThatResponse(res).hasJsonPath("$.user.name", "Bob"::equals);
+        softly.assertThatResponse(res).hasJsonPath("$.user.email", value -> true);
+        AssertionFailedError e = assertThrows(AssertionFailedError.class, () -> softly.assertAll());
+        assertTrue(e.getMessage().contains("Response JSON at $.user.name did not match, was \"Alice\""), e.getMessage());
+        assertTrue(e.getMessage().contains("Response JSON has no value at $.user.email"), e.getMessage());
+        assertFailureCount(softly, 2);
+    }
+
+    @Test
+    void checksJsonSchema() {
+        wireMock.stubFor(get(path).willReturn(okJson("{\"id\": 1, \"name\": \"Alice\"}")));
+        APIResponse res = request.get(path);
+        softly.assertThatResponse(res).matchesJsonSchema("{\"type\": \"object\", \"required\": [\"id\", \"name\"]}");
+        softly.assertAll();
+
+        softly.assertThatResponse(res).matchesJsonSchema("{\"required\": [\"email\"], \"properties\": {\"id\": {\"type\": \"string\"}}}");
+        AssertionFailedError e = assertThrows(AssertionFailedError.class, () -> softly.assertAll());
+        assertTrue(e.getMessage().contains("missing required property \"email\""), e.getMessage());
+        assertTrue(e.getMessage().contains("$.id: expected type \"string\" but was integer"), e.getMessage());
+        assertFailureCount(softly, 1);
+    }
+
+    @Test
+    void failsOnInvalidJson() {
+        wireMock.stubFor(get(path).willReturn(ok("not json {")));
+        softly.assertThatResponse(request.get(path)).hasJsonPath("$.id", value -> true);
+        AssertionFailedError e = assertThrows(AssertionFailedError.class, () -> softly.assertAll());
+        assertTrue(e.getMessage().contains("Response body is not valid JSON"), e.getMessage());
+    }
+
+    @Test
+    void checksBodyTextAndJsonValues() {
+        wireMock.stubFor(get(path).willReturn(okJson("{\"id\": 7, \"name\": \"Alice\", \"roles\": [\"admin\"]}")));
+        APIResponse res = request.get(path);
+        softly.assertThatResponse(res).containsText("\"name\": \"Alice\"");
+        softly.assertThatResponse(res).hasJsonValue("$.id", 7);
+        softly.assertThatResponse(res).hasJsonValue("$.roles", Collections.singletonList("admin"));
+        softly.assertThatResponse(res).not().hasJsonValue("$.name", "Bob");
+        softly.assertAll();
+
+        softly.assertThatResponse(res).containsText("Bob");
+        softly.assertThatResponse(res).hasJsonValue("$.id", 8.0);
+        AssertionFailedError e = assertThrows(AssertionFailedError.class, () -> softly.assertAll());
+        assertTrue(e.getMessage().contains("Response body expected to contain \"Bob\""), e.getMessage());
+        assertTrue(e.getMessage().contains("Response JSON at $.id expected to be 8.0, was 7"), e.getMessage());
+        assertFailureCount(softly, 2);
+    }
 }
@@ -0,0 +1,66 @@
+package io.github.uchagani.playwright.assertions;
+
+import com.microsoft.playwright.Locator;
+import com.microsoft.playwright.Page;
+import com.microsoft.playwright.assertions.LocatorAssertions;
+import io.github.uchagani.jp.UseBrowserConfig;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.opentest4j.AssertionFailedError;
+
+import static io.github.uchagani.playwright.assertions.Utils.assertFailureCount;
+import static org.junit.jupiter.api.Assertions.*;
+
+@UseBrowserConfig(DefaultBrowserConfig.class)
+public class TestSoftAssertionsAdaptiveTimeout {
+    private static final LocatorAssertions.HasTextOptions TIMEOUT = new LocatorAssertions.HasTextOptions().setTimeout(2_000);
+    private SoftAssertions softly;
+    private Page page;
+    private Locator node;
+
+    @BeforeEach
+    void beforeEach(Page page) {
+        softly = SoftAssertions.create(new SoftAssertions.CreateOptions().setAdaptiveTimeout(true));
+        this.page = page;
+        page.setContent("<div id=node>Text content</div>");
+        node = page.locator("#node");
+    }
+
+    @Test
+    void failuresShortenTheNextTimeout() {
+        long start = System.currentTimeMillis();
+        softly.assertThat(node).hasText("foo", TIMEOUT);
+        softly.assertThat(node).hasText("bar", TIMEOUT);
+        softly.assertThat(node).hasText("baz", TIMEOUT);
+        long elapsed = System.currentTimeMillis() - start;
+
+        assertTrue(elapsed < 4_500, "Assertions took " + elapsed + "ms");
+        AssertionFailedError e = assertThrows(AssertionFailedError.class, softly::assertAll);
+        assertTrue(e.getMessage().contains(AdaptiveTimeouts.note(1_000)), e.getMessage());
+        assertTrue(e.getMessage().contains(AdaptiveTimeouts.note(500)), e.getMessage());
+        assertFailureCount(softly, 3);
+    }
+
+    @Test
+    void passRestoresTheTimeout() {
+        softly.assertThat(node).hasText("foo", TIMEOUT);
+        softly.assertThat(node).hasText("Text content", TIMEOUT);
+        softly.assertThat(node).hasText("bar", TIMEOUT);
+
+        AssertionFailedError e = assertThrows(AssertionFailedError.class, softly::assertAll);
+        assertFalse(e.getMessage().contains("reduced"), e.getMessage());
+        assertFailureCount(softly, 2);
+    }
+
+    @Test
+    void otherPagesKeepTheirTimeout() {
+        softly.assertThat(node).hasText("foo", TIMEOUT);
+        Page other = page.context().newPage();
+        other.setContent("<div id=node>Text content</div>");
+        softly.assertThat(other.locator("#node")).hasText("bar", TIMEOUT);
+
+        AssertionFailedError e = assertThrows(AssertionFailedError.class, softly::assertAll);
+        assertFalse(e.getMessage().contains("reduced"), e.getMessage());
+        assertFailureCount(softly, 2);
+    }
+}
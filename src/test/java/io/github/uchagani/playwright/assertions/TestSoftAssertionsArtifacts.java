@@ -0,0 +1,81 @@
+package io.github.uchagani.playwright.assertions;
+
+import com.microsoft.playwright.Locator;
+import com.microsoft.playwright.Page;
+import com.microsoft.playwright.assertions.LocatorAssertions;
+import io.github.uchagani.jp.UseBrowserConfig;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.opentest4j.AssertionFailedError;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@UseBrowserConfig(DefaultBrowserConfig.class)
+public class TestSoftAssertionsArtifacts {
+    private static final LocatorAssertions.HasTextOptions SHORT = new LocatorAssertions.HasTextOptions().setTimeout(500);
+    private static final Pattern SCREENSHOT = Pattern.compile("Screenshot: (\\S+)");
+    private static final Pattern DOM_SNAPSHOT = Pattern.compile("DOM snapshot: (\\S+)");
+    @TempDir
+    Path directory;
+    private Page page;
+    private Locator node;
+
+    @BeforeEach
+    void beforeEach(Page page) {
+        this.page = page;
+        page.setContent("<div id=node>Text content</div>");
+        node = page.locator("#node");
+    }
+
+    @Test
+    void savesArtifactsOfFailures() throws IOException {
+        SoftAssertions softly = SoftAssertions.create(new SoftAssertions.CreateOptions().setArtifactDirectory(directory));
+        softly.assertThat(node).hasText("Text content");
+        softly.assertThat(node).hasText("foo", SHORT);
+
+        AssertionFailedError e = assertThrows(AssertionFailedError.class, softly::assertAll);
+        Path screenshot = path(SCREENSHOT, e.getMessage());
+        Path html = path(DOM_SNAPSHOT, e.getMessage());
+        assertTrue(Files.size(screenshot) > 0);
+        assertEquals("<div id=\"node\">Text content</div>", new String(Files.readAllBytes(html), "UTF-8"));
+        try (Stream<Path> files = Files.list(directory)) {
+            assertEquals(2, files.count());
+        }
+    }
+
+    @Test
+    void reusesIdenticalCaptures() throws IOException {
+        SoftAssertions softly = SoftAssertions.create(new SoftAssertions.CreateOptions().setArtifactDirectory(directory));
+        softly.assertThat(node).hasText("foo", SHORT);
+        softly.assertThat(node).hasText("bar", SHORT);
+        page.evaluate("document.getElementById('node').textContent = 'Changed'");
+        softly.assertThat(node).hasText("baz", SHORT);
+
+        AssertionFailedError e = assertThrows(AssertionFailedError.class, softly::assertAll);
+        Matcher htmls = DOM_SNAPSHOT.matcher(e.getMessage());
+        assertTrue(htmls.find());
+        String first = htmls.group(1);
+        assertTrue(htmls.find());
+        assertEquals(first, htmls.group(1));
+        assertTrue(htmls.find());
+        assertNotEquals(first, htmls.group(1));
+        try (Stream<Path> files = Files.list(directory)) {
+            assertTrue(files.count() <= 4);
+        }
+    }
+
+    private static Path path(Pattern pattern, String message) {
+        Matcher matcher = pattern.matcher(message);
+        assertTrue(matcher.find(), message);
+        return Paths.get(matcher.group(1));
+    }
+}
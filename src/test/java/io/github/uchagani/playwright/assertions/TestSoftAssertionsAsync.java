@@ -0,0 +1,148 @@
+package io.github.uchagani.playwright.assertions;
+
+import com.microsoft.playwright.Page;
+import com.microsoft.playwright.assertions.LocatorAssertions;
+import com.microsoft.playwright.assertions.PageAssertions;
+import io.github.uchagani.jp.UseBrowserConfig;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.opentest4j.AssertionFailedError;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static io.github.uchagani.playwright.assertions.Utils.assertFailureCount;
+import static org.junit.jupiter.api.Assertions.*;
+
+@UseBrowserConfig(DefaultBrowserConfig.class)
+public class TestSoftAssertionsAsync {
+    private SoftAssertions softly;
+    private Page page;
+
+    @BeforeEach
+    void beforeEach(Page page) {
+        softly = SoftAssertions.create();
+        this.page = page;
+    }
+
+    @Test
+    void registeringDoesNotWait() {
+        page.setContent("<div id=node>Text content</div>");
+        long start = System.currentTimeMillis();
+        AssertionFuture<AssertionOutcome> outcome = softly.async().assertThat(page.locator("#node"))
+                .hasText("foo", new LocatorAssertions.HasTextOptions().setTimeout(2_000));
+        assertTrue(System.currentTimeMillis() - start < 1_000);
+        assertFalse(outcome.isDone());
+        assertFailureCount(softly, 0);
+
+        assertThrows(AssertionFailedError.class, () -> softly.assertAll());
+        assertTrue(outcome.isDone());
+        assertEquals(AssertionRecord.Outcome.FAILED, outcome.join().outcome());
+        assertFailureCount(softly, 1);
+    }
+
+    @Test
+    void joinPollsUntilTheAssertionPasses() {
+        page.setContent("<div id=node></div>");
+        page.evaluate("setTimeout(() => document.querySelector('#node').textContent = 'Text content', 500)");
+        AssertionOutcome outcome = softly.async().assertThat(page.locator("#node")).hasText("Text content").join();
+        assertTrue(outcome.passed());
+        assertNull(outcome.failure());
+        softly.assertAll();
+    }
+
+    @Test
+    void completesWhileTheTestDrivesThePage() {
+        page.setContent("<div id=node></div>");
+        page.evaluate("setTimeout(() => document.querySelector('#node').textContent = 'Text content', 300)");
+        AssertionFuture<AssertionOutcome> passing = softly.async().assertThat(page.locator("#node"))
+                .hasText("Text content");
+        AssertionFuture<AssertionOutcome> failing = softly.async().assertThat(page.locator("#node"))
+                .hasText("foo", new LocatorAssertions.HasTextOptions().setTimeout(500));
+        page.waitForTimeout(1_500);
+        assertTrue(passing.isDone());
+        assertTrue(passing.join().passed());
+        assertTrue(failing.isDone());
+        assertFalse(failing.join().passed());
+        assertFailureCount(softly, 1);
+
+        page.setContent("<div id=other>Other</div>");
+        AssertionFuture<AssertionOutcome> afterNavigation = softly.async().assertThat(page.locator("#other"))
+                .isVisible();
+        page.waitForTimeout(500);
+        assertTrue(afterNavigation.isDone());
+        assertThrows(AssertionFailedError.class, () -> softly.assertAll());
+    }
+
+    @Test
+    void pollCompletesResolvedAssertionsOnly() {
+        page.setContent("<div id=node>Text content</div>");
+        AsyncSoftAssertions async = softly.async();
+        AssertionFuture<AssertionOutcome> passing = async.assertThat(page.locator("#node")).isVisible();
+        AssertionFuture<AssertionOutcome> failing = async.assertThat(page.locator("#node")).not().isVisible();
+        async.poll();
+        assertTrue(passing.isDone());
+        assertFalse(failing.isDone());
+
+        assertThrows(AssertionFailedError.class, () -> softly.assertAll());
+        assertFalse(failing.join().passed());
+        assertTrue(failing.join().failure().getMessage().contains("Locator expected not to be visible"));
+    }
+
+    @Test
+    void timeoutsRunFromWhenTheAssertionIsMade() throws Exception {
+        page.setContent("<div id=node>Text content</div>");
+        AssertionFuture<AssertionOutcome> outcome = softly.async().assertThat(page)
+                .hasTitle("foo", new PageAssertions.HasTitleOptions()
+                        .setTimeout(500));
+        Thread.sleep(1_000);
+        long start = System.currentTimeMillis();
+        softly.async().poll();
+        assertTrue(outcome.isDone());
+        assertTrue(System.currentTimeMillis() - start < 1_000);
+        assertThrows(AssertionFailedError.class, () -> softly.assertAll());
+    }
+
+    @Test
+    void allOfCompletesOnceAllAssertionsAreResolved() {
+        page.setContent("<div id=node></div>");
+        page.evaluate("setTimeout(() => document.querySelector('#node').textContent = 'Text content', 500)");
+        AsyncSoftAssertions async = softly.async();
+        AssertionFuture<AssertionOutcome> text = async.assertThat(page.locator("#node")).hasText("Text content");
+        AssertionFuture<AssertionOutcome> visible = async.assertThat(page.locator("#node")).isVisible();
+        AssertionFuture.allOf(text, visible).join();
+        assertTrue(text.isDone());
+        assertTrue(visible.isDone());
+        softly.assertAll();
+    }
+
+    @Test
+    void derivedFuturesComplete() throws Exception {
+        page.setContent("<div id=node>Text content</div>");
+        AssertionFuture<Boolean> passed = softly.async().assertThat(page.locator("#node")).isVisible()
+                .thenApply(AssertionOutcome::passed);
+        assertTrue(passed.join());
+        assertTrue(softly.async().assertThat(page.locator("#node")).isAttached()
+                .thenApply(AssertionOutcome::passed).get(5, TimeUnit.SECONDS));
+        softly.assertAll();
+    }
+
+    @Test
+    void getWithATimeoutChecksUntilTheTimeoutElapses() throws Exception {
+        page.setContent("<div id=node></div>");
+        page.evaluate("setTimeout(() => document.querySelector('#node').textContent = 'Text content', 500)");
+        AssertionFuture<AssertionOutcome> outcome = softly.async().assertThat(page.locator("#node"))
+                .hasText("Text content", new LocatorAssertions.HasTextOptions().setTimeout(5_000));
+        assertThrows(TimeoutException.class, () -> outcome.get(100, TimeUnit.MILLISECONDS));
+        assertTrue(outcome.get(5, TimeUnit.SECONDS).passed());
+        softly.assertAll();
+    }
+
+    @Test
+    void getNowChecksOnce() {
+        page.setContent("<div id=node>Text content</div>");
+        AssertionFuture<AssertionOutcome> outcome = softly.async().assertThat(page.locator("#node")).isVisible();
+        assertTrue(outcome.getNow(null).passed());
+        softly.assertAll();
+    }
+}
@@ -0,0 +1,49 @@
+package io.github.uchagani.playwright.assertions;
+
+import com.microsoft.playwright.Page;
+import com.microsoft.playwright.assertions.LocatorAssertions;
+import io.github.uchagani.jp.UseBrowserConfig;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.opentest4j.AssertionFailedError;
+
+import static io.github.uchagani.playwright.assertions.Utils.assertFailureCount;
+import static org.junit.jupiter.api.Assertions.*;
+
+@UseBrowserConfig(DefaultBrowserConfig.class)
+public class TestSoftAssertionsCompactFailures {
+    private SoftAssertions softly;
+    private Page page;
+
+    @BeforeEach
+    void beforeEach(Page page) {
+        softly = SoftAssertions.create(new SoftAssertions.CreateOptions().setCompactFailures(true));
+        this.page = page;
+    }
+
+    @Test
+    void failuresKeepOnlyTheCallSite() {
+        page.setContent("<div id=node>Text content</div>");
+        softly.assertThat(page.locator("#node")).hasText("foo", new LocatorAssertions.HasTextOptions().setTimeout(1_000));
+        assertFailureCount(softly, 1);
+
+        Throwable failure = ((SoftAssertionsImpl) softly).results.iterator().next();
+        assertTrue(failure instanceof FailureRecord, failure.getClass().getName());
+        assertNull(failure.getCause());
+        assertEquals(1, failure.getStackTrace().length);
+        assertEquals(getClass().getName(), failure.getStackTrace()[0].getClassName());
+        assertEquals("failuresKeepOnlyTheCallSite", failure.getStackTrace()[0].getMethodName());
+
+        AssertionFailedError e = assertThrows(AssertionFailedError.class, softly::assertAll);
+        assertTrue(e.getMessage().contains("Locator expected to have text: foo"), e.getMessage());
+    }
+
+    @Test
+    void expectedAndActualAreKeptAsStrings() {
+        FailureRecord record = FailureRecord.of(new AssertionFailedError("message", "foo", "Text content"));
+        assertEquals("message", record.getMessage());
+        assertEquals("foo", record.getExpected().getStringRepresentation());
+        assertEquals("Text content", record.getActual().getStringRepresentation());
+        assertEquals("expectedAndActualAreKeptAsStrings", record.getStackTrace()[0].getMethodName());
+    }
+}
@@ -0,0 +1,58 @@
+package io.github.uchagani.playwright.assertions;
+
+import com.microsoft.playwright.Page;
+import com.microsoft.playwright.assertions.LocatorAssertions;
+import io.github.uchagani.jp.UseBrowserConfig;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.opentest4j.AssertionFailedError;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static io.github.uchagani.playwright.assertions.Utils.assertFailureCount;
+import static org.junit.jupiter.api.Assertions.*;
+
+@UseBrowserConfig(DefaultBrowserConfig.class)
+public class TestSoftAssertionsDeduplication {
+    private final List<AssertionRecord> records = new ArrayList<>();
+    private SoftAssertions softly;
+    private Page page;
+
+    @BeforeEach
+    void beforeEach(Page page) {
+        softly = SoftAssertions.create(new SoftAssertions.CreateOptions()
+                .setDeduplicationWindow(60_000)
+                .setListeners(Collections.singletonList(records::add)));
+        this.page = page;
+        page.setContent("<div id=node>Text content</div>");
+    }
+
+    @Test
+    void identicalPassingAssertionsAreReused() {
+        softly.assertThat(page.locator("#node")).hasText("Text content");
+        softly.assertThat(page.locator("#node")).hasText("Text content");
+        softly.assertThat(page.locator("div")).hasText("Text content");
+        softly.assertThat(page.locator("#node")).not().hasText("Text content",
+                new LocatorAssertions.HasTextOptions().setTimeout(500));
+        softly.assertThat(page.locator("#node")).hasText("Text content");
+
+        AssertionFailedError e = assertThrows(AssertionFailedError.class, softly::assertAll);
+        assertTrue(e.getMessage().startsWith("1 assertion(s) failed, 2 duplicate(s) reused:"), e.getMessage());
+        assertEquals(AssertionRecord.Outcome.PASSED, records.get(0).outcome());
+        assertEquals(AssertionRecord.Outcome.REUSED, records.get(1).outcome());
+        assertEquals(AssertionRecord.Outcome.PASSED, records.get(2).outcome());
+        assertEquals(AssertionRecord.Outcome.FAILED, records.get(3).outcome());
+        assertEquals(AssertionRecord.Outcome.REUSED, records.get(4).outcome());
+    }
+
+    @Test
+    void failingAssertionsAreNotReused() {
+        LocatorAssertions.HasTextOptions options = new LocatorAssertions.HasTextOptions().setTimeout(500);
+        softly.assertThat(page.locator("#node")).hasText("foo", options);
+        softly.assertThat(page.locator("#node")).hasText("foo", options);
+        assertThrows(AssertionFailedError.class, softly::assertAll);
+        assertFailureCount(softly, 2);
+    }
+}
@@ -0,0 +1,125 @@
+package io.github.uchagani.playwright.assertions;
+
+import com.microsoft.playwright.Page;
+import com.microsoft.playwright.assertions.LocatorAssertions;
+import com.microsoft.playwright.assertions.PageAssertions;
+import io.github.uchagani.jp.UseBrowserConfig;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.opentest4j.AssertionFailedError;
+
+import static io.github.uchagani.playwright.assertions.Utils.assertFailureCount;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@UseBrowserConfig(DefaultBrowserConfig.class)
+public class TestSoftAssertionsDeferred {
+    private SoftAssertions softly;
+    private Page page;
+
+    @BeforeEach
+    void beforeEach(Page page) {
+        softly = SoftAssertions.create(new SoftAssertions.CreateOptions().setDeferred(true));
+        this.page = page;
+    }
+
+    @Test
+    void assertionsAreOnlyCheckedInAssertAll() {
+        page.setContent("<div id=node>Text content</div>");
+        softly.assertThat(page.locator("#node")).hasText("foo", new LocatorAssertions.HasTextOptions().setTimeout(1_000));
+        assertFailureCount(softly, 0);
+        assertThrows(AssertionFailedError.class, () -> softly.assertAll());
+        assertFailureCount(softly, 1);
+    }
+
+    @Test
+    void passWhenElementAppearsLater() {
+        page.setContent("<div id=node></div>");
+        page.evaluate("setTimeout(() => document.querySelector('#node').textContent = 'Text content', 500)");
+        softly.assertThat(page.locator("#node")).hasText("Text content");
+        softly.assertThat(page.locator("#node")).isVisible();
+        softly.assertAll();
+        assertFailureCount(softly, 0);
+    }
+
+    @Test
+    void failuresWaitForTheLongestTimeoutOnly() {
+        page.setContent("<div id=node>Text content</div>");
+        for (int i = 0; i < 5; i++) {
+            softly.assertThat(page.locator("#missing-" + i)).isVisible(new LocatorAssertions.IsVisibleOptions().setTimeout(1_000));
+        }
+        softly.assertThat(page).hasTitle("foo", new PageAssertions.HasTitleOptions().setTimeout(1_000));
+
+        long start = System.currentTimeMillis();
+        AssertionFailedError e = assertThrows(AssertionFailedError.class, () -> softly.assertAll());
+        long elapsed = System.currentTimeMillis() - start;
+
+        assertTrue(elapsed < 4_000, "assertAll took " + elapsed + "ms");
+        assertTrue(e.getMessage().startsWith("6 assertion(s) failed:"), e.getMessage());
+        assertTrue(e.getMessage().contains("Page title expected to be: foo"), e.getMessage());
+        assertFailureCount(softly, 6);
+    }
+
+    @Test
+    void unbatchedFailuresShareTheirChecks() {
+        page.setContent("<div id=node>Text content</div>");
+        for (int i = 0; i < 10; i++) {
+            softly.assertThat(page.locator("#node")).not().hasText("Text content",
+                    new LocatorAssertions.HasTextOptions().setTimeout(1_500));
+        }
+
+        long start = System.currentTimeMillis();
+        AssertionFailedError e = assertThrows(AssertionFailedError.class, () -> softly.assertAll());
+        long elapsed = System.currentTimeMillis() - start;
+
+        assertTrue(elapsed < 3_000, "assertAll took " + elapsed + "ms");
+        assertTrue(e.getMessage().startsWith("10 assertion(s) failed:"), e.getMessage());
+    }
+
+    @Test
+    void lastAttemptWaitsForTheRestOfTheTimeout() {
+        page.setContent("<div id=node></div>");
+        page.evaluate("setTimeout(() => document.querySelector('#node').textContent = 'Text content', 1300)");
+        softly.assertThat(page.locator("#node")).hasText("Text content",
+                new LocatorAssertions.HasTextOptions().setTimeout(1_500));
+        softly.assertAll();
+        assertFailureCount(softly, 0);
+    }
+
+    @Test
+    void notIsDeferred() {
+        page.setContent("<div id=node>Text content</div>");
+        softly.assertThat(page.locator("#node")).not().hasText("foo");
+        softly.assertThat(page.locator("#node")).not().isVisible(new LocatorAssertions.IsVisibleOptions().setTimeout(1_000));
+        AssertionFailedError e = assertThrows(AssertionFailedError.class, () -> softly.assertAll());
+        assertTrue(e.getMessage().contains("Locator expected not to be visible"), e.getMessage());
+        assertFailureCount(softly, 1);
+    }
+
+    @Test
+    void batchedLocatorChecksPass() {
+        page.setContent("<input id=field title='Name'><ul><li>One</li><li>Two</li></ul><div id=node>  Text   content </div><p hidden>gone</p>");
+        softly.assertThat(page.locator("#node")).hasText("Text content");
+        softly.assertThat(page.locator("#node")).containsText("content");
+        softly.assertThat(page.locator("#node")).isVisible();
+        softly.assertThat(page.locator("#field")).hasAttribute("title", "Name");
+        softly.assertThat(page.locator("li")).hasCount(2);
+        softly.assertThat(page.locator("#missing")).isHidden();
+        softly.assertThat(page.locator("p")).isHidden();
+        softly.assertAll();
+        assertFailureCount(softly, 0);
+    }
+
+    @Test
+    void batchedLocatorChecksReportPlaywrightFailures() {
+        page.setContent("<ul><li>One</li><li>Two</li></ul><div id=node>Text content</div>");
+        softly.assertThat(page.locator("#node")).hasText("foo", new LocatorAssertions.HasTextOptions().setTimeout(1_000));
+        softly.assertThat(page.locator("li")).hasCount(3, new LocatorAssertions.HasCountOptions().setTimeout(1_000));
+        softly.assertThat(page.locator("li")).hasText("One", new LocatorAssertions.HasTextOptions().setTimeout(1_000));
+        AssertionFailedError e = assertThrows(AssertionFailedError.class, () -> softly.assertAll());
+        assertTrue(e.getMessage().contains("Locator expected to have text: foo"), e.getMessage());
+        assertTrue(e.getMessage().contains("Locator expected to have count"), e.getMessage());
+        assertTrue(e.getMessage().contains("strict mode violation"), e.getMessage());
+        assertFailureCount(softly, 3);
+    }
+}
@@ -0,0 +1,246 @@
+package io.github.uchagani.playwright.assertions;
+
+import com.microsoft.playwright.APIResponse;
+import com.microsoft.playwright.options.HttpHeader;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.junit.jupiter.api.parallel.Execution;
+import org.junit.jupiter.api.parallel.ExecutionMode;
+import org.junit.platform.engine.TestExecutionResult;
+import org.junit.platform.engine.reporting.ReportEntry;
+import org.junit.platform.testkit.engine.EngineExecutionResults;
+import org.junit.platform.testkit.engine.EngineTestKit;
+import org.opentest4j.AssertionFailedError;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.platform.engine.discovery.DiscoverySelectors.selectClass;
+
+public class TestSoftAssertionsExtension {
+    @Test
+    void assertsAllAfterEachTest() {
+        EngineExecutionResults results = run(ExtendedTests.class);
+
+        results.testEvents().assertStatistics(stats -> stats.started(3).succeeded(2).failed(1));
+        Throwable failure = results.testEvents().failed().stream()
+                .map(event -> event.getPayload(TestExecutionResult.class).get())
+                .findFirst().get().getThrowable().get();
+        assertInstanceOf(AssertionFailedError.class, failure);
+        assertTrue(failure.getMessage().contains("Response status expected to be 404, was 200"), failure.getMessage());
+    }
+
+    @Test
+    void publishesAssertionCounts() {
+        List<Map<String, String>> entries = run(ExtendedTests.class).allEvents().reportingEntryPublished().stream()
+                .map(event -> event.getPayload(ReportEntry.class).get().getKeyValuePairs())
+                .collect(Collectors.toList());
+
+        assertEquals(3, entries.size());
+        assertTrue(entries.stream().anyMatch(entry -> entry.get(SoftAssertionsExtension.ASSERTIONS).equals("2")
+                && entry.get(SoftAssertionsExtension.FAILURES).equals("1")), entries.toString());
+        assertTrue(entries.stream().allMatch(entry -> entry.containsKey(SoftAssertionsExtension.DURATION_MILLIS)));
+    }
+
+    @Test
+    void givesEveryConcurrentTestItsOwnInstance() {
+        EngineExecutionResults results = EngineTestKit.engine("junit-jupiter")
+                .configurationParameter("junit.jupiter.execution.parallel.enabled", "true")
+                .selectors(selectClass(ConcurrentTests.class))
+                .execute();
+
+        results.testEvents().assertStatistics(stats -> stats.started(8).succeeded(8));
+    }
+
+    @Test
+    void leavesSharedOptionsUntouched() {
+        List<Map<String, String>> entries = run(SharedOptionsTests.class).allEvents().reportingEntryPublished().stream()
+                .map(event -> event.getPayload(ReportEntry.class).get().getKeyValuePairs())
+                .collect(Collectors.toList());
+
+        assertEquals(2, entries.size());
+        assertTrue(entries.stream().allMatch(entry -> entry.get(SoftAssertionsExtension.ASSERTIONS).equals("1")),
+                entries.toString());
+        assertNull(SharedOptionsTests.OPTIONS.listeners);
+    }
+
+    @Test
+    void supplierMayReturnNull() {
+        EngineExecutionResults results = run(NullOptionsTests.class);
+        results.testEvents().assertStatistics(stats -> stats.succeeded(1).failed(1));
+        assertEquals(2, results.allEvents().reportingEntryPublished().count());
+    }
+
+    private static EngineExecutionResults run(Class<?> testClass) {
+        return EngineTestKit.engine("junit-jupiter").selectors(selectClass(testClass)).execute();
+    }
+
+    @ExtendWith(SoftAssertionsExtension.class)
+    static class ExtendedTests {
+        private SoftAssertions beforeEach;
+
+        @BeforeEach
+        void beforeEach(SoftAssertions softly) {
+            this.beforeEach = softly;
+        }
+
+        @Test
+        void sameInstanceAsBeforeEach(SoftAssertions softly) {
+            assertSame(beforeEach, softly);
+        }
+
+        @Test
+        void passing(SoftAssertions softly) {
+            softly.assertThatResponse(new FakeResponse(200)).hasStatus(200);
+        }
+
+        @Test
+        void failing(SoftAssertions softly) {
+            softly.assertThatResponse(new FakeResponse(200)).hasStatus(200);
+            softly.assertThatResponse(new FakeResponse(200)).hasStatus(404);
+        }
+    }
+
+    static class SharedOptionsTests {
+        static final SoftAssertions.CreateOptions OPTIONS = new SoftAssertions.CreateOptions();
+
+        @RegisterExtension
+        static final SoftAssertionsExtension EXTENSION = new SoftAssertionsExtension(() -> OPTIONS);
+
+        @Test
+        void first(SoftAssertions softly) {
+            softly.assertThatResponse(new FakeResponse(200)).hasStatus(200);
+        }
+
+        @Test
+        void second(SoftAssertions softly) {
+            softly.assertThatResponse(new FakeResponse(200)).hasStatus(200);
+        }
+    }
+
+    static class NullOptionsTests {
+        @RegisterExtension
+        static final SoftAssertionsExtension EXTENSION = new SoftAssertionsExtension(() -> null);
+
+        @Test
+        void passing(SoftAssertions softly) {
+            softly.assertThatResponse(new FakeResponse(200)).hasStatus(200);
+        }
+
+        @Test
+        void failing(SoftAssertions softly) {
+            softly.assertThatResponse(new FakeResponse(200)).hasStatus(404);
+        }
+    }
+
+    @ExtendWith(SoftAssertionsExtension.class)
+    @Execution(ExecutionMode.CONCURRENT)
+    static class ConcurrentTests {
+        private static final Map<SoftAssertions, Boolean> SEEN = Collections.synchronizedMap(new IdentityHashMap<>());
+
+        @Test
+        void first(SoftAssertions softly) {
+            check(softly);
+        }
+
+        @Test
+        void second(SoftAssertions softly) {
+            check(softly);
+        }
+
+        @Test
+        void third(SoftAssertions softly) {
+            check(softly);
+        }
+
+        @Test
+        void fourth(SoftAssertions softly) {
+            check(softly);
+        }
+
+        @Test
+        void fifth(SoftAssertions softly) {
+            check(softly);
+        }
+
+        @Test
+        void sixth(SoftAssertions softly) {
+            check(softly);
+        }
+
+        @Test
+        void seventh(SoftAssertions softly) {
+            check(softly);
+        }
+
+        @Test
+        void eighth(SoftAssertions softly) {
+            check(softly);
+        }
+
+        private static void check(SoftAssertions softly) {
+            assertNull(SEEN.put(softly, true));
+            for (int i = 0; i < 100; i++) {
+                softly.assertThatResponse(new FakeResponse(200)).hasStatus(200);
+            }
+        }
+    }
+
+    private static class FakeResponse implements APIResponse {
+        private final int status;
+
+        FakeResponse(int status) {
+            this.status = status;
+        }
+
+        @Override
+        public byte[] body() {
+            return new byte[0];
+        }
+
+        @Override
+        public void dispose() {
+        }
+
+        @Override
+        public Map<String, String> headers() {
+            return Collections.emptyMap();
+        }
+
+        @Override
+        public List<HttpHeader> headersArray() {
+            return Collections.emptyList();
+        }
+
+        @Override
+        public boolean ok() {
+            return status < 300;
+        }
+
+        @Override
+        public int status() {
+            return status;
+        }
+
+        @Override
+        public String statusText() {
+            return "";
+        }
+
+        @Override
+        public String text() {
+            return "";
+        }
+
+        @Override
+        public String url() {
+            return "http://localhost/";
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package io.github.uchagani.playwright.assertions;
+
+import com.microsoft.playwright.Locator;
+import com.microsoft.playwright.Page;
+import com.microsoft.playwright.assertions.LocatorAssertions;
+import io.github.uchagani.jp.UseBrowserConfig;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.opentest4j.AssertionFailedError;
+
+import static io.github.uchagani.playwright.assertions.Utils.assertFailureCount;
+import static org.junit.jupiter.api.Assertions.*;
+
+@UseBrowserConfig(DefaultBrowserConfig.class)
+public class TestSoftAssertionsFailFast {
+    private static final LocatorAssertions.HasTextOptions SHORT = new LocatorAssertions.HasTextOptions().setTimeout(500);
+    private Page page;
+    private Locator node;
+
+    @BeforeEach
+    void beforeEach(Page page) {
+        this.page = page;
+        page.setContent("<div id=node>Text content</div>");
+        node = page.locator("#node");
+    }
+
+    @Test
+    void skipsAssertionsAfterMaxFailures() {
+        SoftAssertions softly = SoftAssertions.create(new SoftAssertions.CreateOptions().setMaxFailures(2));
+        long start = System.currentTimeMillis();
+        for (int i = 0; i < 5; i++) {
+            softly.assertThat(node).hasText("foo " + i, SHORT);
+        }
+        softly.assertThat(node).hasText("Text content");
+        long elapsed = System.currentTimeMillis() - start;
+
+        assertTrue(elapsed < 2_500, "Assertions took " + elapsed + "ms");
+        AssertionFailedError e = assertThrows(AssertionFailedError.class, softly::assertAll);
+        assertTrue(e.getMessage().startsWith("2 assertion(s) failed, 4 skipped after reaching the failure limit:"), e.getMessage());
+        assertTrue(e.getMessage().contains("foo 1"), e.getMessage());
+        assertFalse(e.getMessage().contains("foo 2"), e.getMessage());
+        assertFailureCount(softly, 2);
+    }
+
+    @Test
+    void passingAssertionResetsConsecutiveFailures() {
+        SoftAssertions softly = SoftAssertions.create(new SoftAssertions.CreateOptions().setMaxConsecutiveFailures(2));
+        softly.assertThat(node).hasText("foo", SHORT);
+        softly.assertThat(node).hasText("Text content");
+        softly.assertThat(node).hasText("bar", SHORT);
+        softly.assertThat(node).hasText("baz", SHORT);
+        softly.assertThat(node).hasText("Text content");
+        softly.assertThat(node).hasText("qux", SHORT);
+
+        AssertionFailedError e = assertThrows(AssertionFailedError.class, softly::assertAll);
+        assertTrue(e.getMessage().startsWith("3 assertion(s) failed, 2 skipped after reaching the failure limit:"), e.getMessage());
+        assertFailureCount(softly, 3);
+    }
+
+    @Test
+    void deferredAssertionsStopPollingAfterMaxFailures() {
+        SoftAssertions softly = SoftAssertions.create(new SoftAssertions.CreateOptions().setDeferred(true).setMaxFailures(1));
+        softly.assertThat(page.locator("#missing")).isVisible(new LocatorAssertions.IsVisibleOptions().setTimeout(500));
+        softly.assertThat(page.locator("#other")).isVisible(new LocatorAssertions.IsVisibleOptions().setTimeout(10_000));
+
+        long start = System.currentTimeMillis();
+        AssertionFailedError e = assertThrows(AssertionFailedError.class, softly::assertAll);
+        long elapsed = System.currentTimeMillis() - start;
+
+        assertTrue(elapsed < 5_000, "assertAll took " + elapsed + "ms");
+        assertTrue(e.getMessage().startsWith("1 assertion(s) failed, 1 skipped after reaching the failure limit:"), e.getMessage());
+        assertFailureCount(softly, 1);
+    }
+
+    @Test
+    void groupsHaveTheirOwnFailureLimit() {
+        SoftAssertions softly = SoftAssertions.create();
+        softly.group("flaky", new SoftAssertions.GroupOptions().setMaxFailures(1), flaky -> {
+            flaky.assertThat(node).hasText("foo", SHORT);
+            flaky.assertThat(node).hasText("bar", SHORT);
+        });
+        softly.assertThat(node).hasText("baz", SHORT);
+        softly.assertThat(node).hasText("qux", SHORT);
+
+        AssertionFailedError e = assertThrows(AssertionFailedError.class, softly::assertAll);
+        assertTrue(e.getMessage().startsWith("3 assertion(s) failed, 1 skipped after reaching the failure limit:"), e.getMessage());
+        assertTrue(e.getMessage().contains("flaky: 1 assertion(s) failed, 1 skipped after reaching the failure limit:"), e.getMessage());
+        assertFalse(e.getMessage().contains("bar"), e.getMessage());
+        assertFailureCount(softly, 2);
+    }
+
+    @Test
+    void groupFailuresCountTowardsTheParentLimit() {
+        SoftAssertions softly = SoftAssertions.create(new SoftAssertions.CreateOptions().setMaxFailures(2));
+        softly.group("flaky", new SoftAssertions.GroupOptions().setMaxFailures(5), flaky -> {
+            flaky.assertThat(node).hasText("foo", SHORT);
+            flaky.assertThat(node).hasText("bar", SHORT);
+            flaky.assertThat(node).hasText("baz", SHORT);
+        });
+        softly.assertThat(node).hasText("qux", SHORT);
+
+        AssertionFailedError e = assertThrows(AssertionFailedError.class, softly::assertAll);
+        assertTrue(e.getMessage().startsWith("2 assertion(s) failed, 2 skipped after reaching the failure limit:"), e.getMessage());
+        assertFalse(e.getMessage().contains("baz"), e.getMessage());
+        assertFailureCount(softly, 0);
+    }
+}
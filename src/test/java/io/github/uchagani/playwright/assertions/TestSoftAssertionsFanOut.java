@@ -0,0 +1,104 @@
+package io.github.uchagani.playwright.assertions;
+
+import com.microsoft.playwright.BrowserContext;
+import com.microsoft.playwright.Page;
+import com.microsoft.playwright.assertions.LocatorAssertions;
+import com.microsoft.playwright.assertions.PageAssertions;
+import io.github.uchagani.jp.UseBrowserConfig;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.opentest4j.AssertionFailedError;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.regex.Pattern;
+
+import static io.github.uchagani.playwright.assertions.Utils.assertFailureCount;
+import static org.junit.jupiter.api.Assertions.*;
+
+@UseBrowserConfig(DefaultBrowserConfig.class)
+public class TestSoftAssertionsFanOut {
+    private List<Page> pages;
+
+    @BeforeEach
+    void beforeEach(BrowserContext context) {
+        pages = new ArrayList<>();
+        for (String title : Arrays.asList("Tenant A", "Tenant B", "Other")) {
+            Page page = context.newPage();
+            page.setContent("<title>" + title + "</title><div id=node>" + title + "</div>");
+            pages.add(page);
+        }
+    }
+
+    @Test
+    void failuresFromAllTargetsAreReportedTogether() {
+        SoftAssertions softly = SoftAssertions.create(new SoftAssertions.CreateOptions().setDeferred(true));
+        softly.assertThatEach(pages, (s, page) -> {
+            s.assertThat(page).hasTitle(Pattern.compile("^Tenant"), new PageAssertions.HasTitleOptions().setTimeout(1_000));
+            s.assertThat(page.locator("#node")).isVisible();
+        });
+        AssertionFailedError e = assertThrows(AssertionFailedError.class, softly::assertAll);
+        assertTrue(e.getMessage().contains("Other"), e.getMessage());
+        assertFailureCount(softly, 1);
+    }
+
+    @Test
+    void runsOnConfiguredExecutor() {
+        List<String> threads = new ArrayList<>();
+        SoftAssertions softly = SoftAssertions.create(new SoftAssertions.CreateOptions().setExecutor(Runnable::run));
+        softly.assertThatEach(pages, (s, page) -> {
+            threads.add(Thread.currentThread().getName());
+            s.assertThat(page.locator("#node")).isVisible();
+        });
+        softly.assertAll();
+        assertEquals(3, threads.size());
+        assertTrue(threads.stream().allMatch(name -> name.equals(Thread.currentThread().getName())));
+        assertFailureCount(softly, 0);
+    }
+
+    @Test
+    void targetsCanShareAPage() {
+        Page page = pages.get(0);
+        SoftAssertions softly = SoftAssertions.create();
+        LocatorAssertions.HasTextOptions options = new LocatorAssertions.HasTextOptions().setTimeout(1_000);
+        softly.assertThatEach(Arrays.asList("Tenant A", "Tenant B"),
+                (s, text) -> s.assertThat(page.locator("#node")).hasText(text, options));
+        assertFailureCount(softly, 1);
+        AssertionFailedError e = assertThrows(AssertionFailedError.class, softly::assertAll);
+        assertTrue(e.getMessage().contains("Tenant B"), e.getMessage());
+    }
+
+    @Test
+    void threadSafeAssertionsCanBeMadeFromAnyThread() throws Exception {
+        Page page = pages.get(0);
+        SoftAssertions softly = SoftAssertions.create(new SoftAssertions.CreateOptions().setThreadSafe(true));
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < 20; i++) {
+                futures.add(executor.submit(() -> softly.assertThat(page.locator("#node")).hasText("Tenant A")));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+        softly.assertAll();
+        assertFailureCount(softly, 0);
+    }
+
+    @Test
+    void unexpectedExceptionsAreRethrown() {
+        SoftAssertions softly = SoftAssertions.create(new SoftAssertions.CreateOptions().setExecutor(Runnable::run));
+        IllegalStateException e = assertThrows(IllegalStateException.class, () -> softly.assertThatEach(pages, (s, page) -> {
+            throw new IllegalStateException("boom");
+        }));
+        assertEquals("boom", e.getMessage());
+        assertEquals(2, e.getSuppressed().length);
+    }
+}
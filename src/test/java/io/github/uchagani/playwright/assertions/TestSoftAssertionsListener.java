@@ -0,0 +1,141 @@
+package io.github.uchagani.playwright.assertions;
+
+import com.microsoft.playwright.Locator;
+import com.microsoft.playwright.Page;
+import com.microsoft.playwright.assertions.LocatorAssertions;
+import io.github.uchagani.jp.UseBrowserConfig;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.opentest4j.AssertionFailedError;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@UseBrowserConfig(DefaultBrowserConfig.class)
+public class TestSoftAssertionsListener {
+    private static final LocatorAssertions.HasTextOptions SHORT = new LocatorAssertions.HasTextOptions().setTimeout(500);
+    private final List<AssertionRecord> records = Collections.synchronizedList(new ArrayList<>());
+    private Locator node;
+
+    @BeforeEach
+    void beforeEach(Page page) {
+        page.setContent("<div id=node>Text content</div>");
+        node = page.locator("#node");
+    }
+
+    @Test
+    void recordsEveryAssertion() {
+        SoftAssertions softly = SoftAssertions.create(new SoftAssertions.CreateOptions()
+                .setListeners(Collections.singletonList(records::add)));
+        softly.assertThat(node).hasText("Text content");
+        softly.assertThat(node).not().hasText("Text content", SHORT);
+
+        assertThrows(AssertionFailedError.class, softly::assertAll);
+        assertEquals(2, records.size());
+
+        AssertionRecord passed = records.get(0);
+        assertEquals("hasText", passed.method());
+        assertEquals("#node", passed.target());
+        assertEquals(AssertionRecord.TargetKind.LOCATOR, passed.targetKind());
+        assertFalse(passed.negated());
+        assertEquals(AssertionRecord.Outcome.PASSED, passed.outcome());
+        assertEquals(1, passed.attempts());
+
+        AssertionRecord failed = records.get(1);
+        assertTrue(failed.negated());
+        assertEquals(AssertionRecord.Outcome.FAILED, failed.outcome());
+        assertTrue(failed.duration().toMillis() >= 500, failed.toString());
+    }
+
+    @Test
+    void recordsDeferredAssertions() {
+        SoftAssertions softly = SoftAssertions.create(new SoftAssertions.CreateOptions()
+                .setDeferred(true)
+                .setListeners(Collections.singletonList(records::add)));
+        softly.assertThat(node).hasText("Text content");
+        softly.assertThat(node).hasText("foo", SHORT);
+        assertTrue(records.isEmpty());
+
+        assertThrows(AssertionFailedError.class, softly::assertAll);
+        assertEquals(2, records.size());
+        assertEquals(AssertionRecord.Outcome.PASSED, records.get(0).outcome());
+        assertEquals(AssertionRecord.Outcome.FAILED, records.get(1).outcome());
+        assertTrue(records.get(1).attempts() > 1, records.get(1).toString());
+    }
+
+    @Test
+    void notifiesStartAndFailureBeforeCompletion() {
+        List<String> events = new ArrayList<>();
+        SoftAssertionListener listener = new SoftAssertionListener() {
+            @Override
+            public void assertionStarted(String method, Object target, boolean negated) {
+                events.add("started " + method + (target == node ? " on node" : ""));
+            }
+
+            @Override
+            public void assertionFailed(AssertionRecord record, Throwable failure) {
+                events.add("failed " + record.method() + (failure instanceof AssertionFailedError ? " with failure" : ""));
+            }
+
+            @Override
+            public void assertionCompleted(AssertionRecord record) {
+                events.add("completed " + record.method());
+            }
+        };
+        SoftAssertions softly = SoftAssertions.create(new SoftAssertions.CreateOptions()
+                .setListeners(Collections.singletonList(listener)));
+        softly.assertThat(node).isVisible();
+        softly.assertThat(node).hasText("foo", SHORT);
+
+        assertThrows(AssertionFailedError.class, softly::assertAll);
+        assertEquals(Arrays.asList("started isVisible on node", "completed isVisible",
+                "started hasText on node", "failed hasText with failure", "completed hasText"), events);
+    }
+
+    @Test
+    void deliversAsyncEventsBeforeAssertAllReturns() {
+        List<String> threads = Collections.synchronizedList(new ArrayList<>());
+        SoftAssertions softly = SoftAssertions.create(new SoftAssertions.CreateOptions()
+                .setAsyncListeners(true)
+                .setListeners(Collections.singletonList(record -> {
+                    threads.add(Thread.currentThread().getName());
+                    records.add(record);
+                })));
+        softly.assertThat(node).isVisible();
+        softly.assertThat(node).hasText("Text content");
+        softly.assertAll();
+
+        assertEquals(2, records.size());
+        assertEquals("isVisible", records.get(0).method());
+        assertEquals("hasText", records.get(1).method());
+        assertEquals(Collections.nCopies(2, "soft-assertions-listeners"), threads);
+    }
+
+    @Test
+    void publishesTimers() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        SoftAssertionsMeterBinder metrics = new SoftAssertionsMeterBinder();
+        metrics.bindTo(registry);
+        SoftAssertions softly = SoftAssertions.create(new SoftAssertions.CreateOptions()
+                .setListeners(Collections.singletonList(metrics)));
+        softly.assertThat(node).hasText("Text content");
+        softly.assertThat(node.page().locator("div")).hasText("Text content");
+        softly.assertThat(node).isVisible();
+        softly.assertAll();
+
+        Timer timer = registry.get(SoftAssertionsMeterBinder.METER_NAME)
+                .tag("method", "hasText")
+                .tag("kind", "locator")
+                .tag("outcome", "passed")
+                .timer();
+        assertEquals(2, timer.count());
+        assertEquals(2, registry.get(SoftAssertionsMeterBinder.METER_NAME).timers().size());
+        assertTrue(registry.getMeters().stream().noneMatch(meter -> meter.getId().getTag("target") != null));
+    }
+}
@@ -0,0 +1,69 @@
+package io.github.uchagani.playwright.assertions;
+
+import com.microsoft.playwright.Locator;
+import com.microsoft.playwright.Page;
+import com.microsoft.playwright.assertions.LocatorAssertions;
+import io.github.uchagani.jp.UseBrowserConfig;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.opentest4j.AssertionFailedError;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static io.github.uchagani.playwright.assertions.Utils.assertFailureCount;
+import static org.junit.jupiter.api.Assertions.*;
+
+@UseBrowserConfig(DefaultBrowserConfig.class)
+public class TestSoftAssertionsPolling {
+    private Page page;
+    private Locator node;
+
+    @BeforeEach
+    void beforeEach(Page page) {
+        this.page = page;
+        page.setContent("<div id=node>Text content</div>");
+        node = page.locator("#node");
+    }
+
+    @Test
+    void pollsWithConfiguredStrategy() {
+        List<Integer> attempts = new ArrayList<>();
+        SoftAssertions softly = SoftAssertions.create(new SoftAssertions.CreateOptions()
+                .setPollingStrategy((page, attempt) -> {
+                    attempts.add(attempt);
+                    PollingStrategies.sleep(50);
+                })
+                .setListeners(Collections.singletonList(record -> assertEquals(attempts.size() + 1, record.attempts()))));
+        page.evaluate("setTimeout(() => document.getElementById('node').textContent = 'Changed', 300)");
+        softly.assertThat(node).hasText("Changed");
+
+        softly.assertAll();
+        assertTrue(attempts.size() > 1, attempts.toString());
+        assertEquals(1, (int) attempts.get(0));
+    }
+
+    @Test
+    void failsAfterTimeoutWithExponentialPolling() {
+        SoftAssertions softly = SoftAssertions.create(new SoftAssertions.CreateOptions()
+                .setPollingStrategy(PollingStrategy.exponential(10, 200)));
+        softly.assertThat(node).hasText("foo", new LocatorAssertions.HasTextOptions().setTimeout(500));
+
+        assertThrows(AssertionFailedError.class, softly::assertAll);
+        assertFailureCount(softly, 1);
+    }
+
+    @Test
+    void checksAgainOnDomMutation() {
+        SoftAssertions softly = SoftAssertions.create(new SoftAssertions.CreateOptions()
+                .setPollingStrategy(PollingStrategy.onDomMutation(10_000)));
+        page.evaluate("setTimeout(() => document.getElementById('node').textContent = 'Changed', 300)");
+        long start = System.currentTimeMillis();
+        softly.assertThat(node).hasText("Changed");
+        long elapsed = System.currentTimeMillis() - start;
+
+        softly.assertAll();
+        assertTrue(elapsed < 2_000, "Assertion took " + elapsed + "ms");
+    }
+}
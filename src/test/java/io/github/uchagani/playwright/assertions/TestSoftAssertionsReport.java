@@ -0,0 +1,191 @@
+package io.github.uchagani.playwright.assertions;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.opentest4j.AssertionFailedError;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TestSoftAssertionsReport {
+    private static SoftAssertions withFailures(SoftAssertions.CreateOptions options, String... messages) {
+        SoftAssertionsImpl softly = (SoftAssertionsImpl) SoftAssertions.create(options);
+        for (String message : messages) {
+            softly.results.add(new AssertionFailedError(message));
+        }
+        return softly;
+    }
+
+    @Test
+    void defaultReportIsUnchanged() {
+        SoftAssertions softly = withFailures(new SoftAssertions.CreateOptions(), "first", "second");
+        AssertionFailedError e = assertThrows(AssertionFailedError.class, softly::assertAll);
+        assertEquals("2 assertion(s) failed:\n" +
+                "----------------------------------------\nfirst\n" +
+                "----------------------------------------\nsecond", e.getMessage());
+    }
+
+    @Test
+    void longFailureMessagesAreTruncated() {
+        SoftAssertions softly = withFailures(new SoftAssertions.CreateOptions().setMaxFailureMessageLength(5), "0123456789");
+        AssertionFailedError e = assertThrows(AssertionFailedError.class, softly::assertAll);
+        assertTrue(e.getMessage().endsWith("01234... (5 more characters)"), e.getMessage());
+    }
+
+    @Test
+    void reportStopsAtOverallLimit() {
+        SoftAssertions softly = withFailures(new SoftAssertions.CreateOptions().setMaxReportLength(60), "first", "second", "third", "fourth");
+        AssertionFailedError e = assertThrows(AssertionFailedError.class, softly::assertAll);
+        assertTrue(e.getMessage().startsWith("4 assertion(s) failed:"), e.getMessage());
+        assertTrue(e.getMessage().contains("first"), e.getMessage());
+        assertFalse(e.getMessage().contains("fourth"), e.getMessage());
+        assertTrue(e.getMessage().contains("more failure(s) not shown"), e.getMessage());
+    }
+
+    @Test
+    void oversizedFailureIsCutToTheOverallLimit() {
+        String oversized = String.join("", Collections.nCopies(1_000_000, "x"));
+        SoftAssertions softly = withFailures(new SoftAssertions.CreateOptions().setMaxReportLength(200),
+                oversized, "second");
+        AssertionFailedError e = assertThrows(AssertionFailedError.class, softly::assertAll);
+        assertTrue(e.getMessage().length() < 400, "report has " + e.getMessage().length() + " characters");
+        assertTrue(e.getMessage().contains("more characters)"), e.getMessage());
+        assertFalse(e.getMessage().contains("second"), e.getMessage());
+        assertTrue(e.getMessage().endsWith(FailureReport.omitted(1)), e.getMessage());
+    }
+
+    @Test
+    void failureShortenedByTheMessageLimitDoesNotEndTheReport() {
+        String longMessage = String.join("", Collections.nCopies(1_500, "x"));
+        SoftAssertions.CreateOptions options = new SoftAssertions.CreateOptions()
+                .setMaxFailureMessageLength(100)
+                .setMaxReportLength(1_000);
+        AssertionFailedError e = assertThrows(AssertionFailedError.class,
+                withFailures(options, longMessage, "second", "third")::assertAll);
+        assertTrue(e.getMessage().contains("... (1400 more characters)"), e.getMessage());
+        assertTrue(e.getMessage().endsWith("second\n" + FailureReport.SEPARATOR + "third"), e.getMessage());
+
+        List<String> reported = new ArrayList<>();
+        options.setReportSink((index, message) -> reported.add(message));
+        assertThrows(AssertionFailedError.class, withFailures(options, longMessage, "second", "third")::assertAll);
+        assertEquals(Arrays.asList(longMessage.substring(0, 100) + "... (1400 more characters)", "second", "third"),
+                reported);
+    }
+
+    @Test
+    void oversizedFailureIsCutToTheOverallLimitWhenStreamed() {
+        String oversized = String.join("", Collections.nCopies(1_000_000, "x"));
+        List<String> reported = new ArrayList<>();
+        int[] omitted = new int[1];
+        ReportSink sink = new ReportSink() {
+            @Override
+            public void failure(int index, String message) {
+                reported.add(message);
+            }
+
+            @Override
+            public void end(int omittedCount) {
+                omitted[0] = omittedCount;
+            }
+        };
+        SoftAssertions softly = withFailures(new SoftAssertions.CreateOptions().setMaxReportLength(200)
+                .setReportSink(sink), oversized, "second");
+        assertThrows(AssertionFailedError.class, softly::assertAll);
+        assertEquals(1, reported.size());
+        assertTrue(reported.get(0).length() < 400, "message has " + reported.get(0).length() + " characters");
+        assertTrue(reported.get(0).endsWith("... (999800 more characters)"), reported.get(0));
+        assertEquals(1, omitted[0]);
+    }
+
+    @Test
+    void failuresAreStreamedToSink() {
+        List<String> reported = new ArrayList<>();
+        SoftAssertions softly = withFailures(new SoftAssertions.CreateOptions().setReportSink((index, message) -> reported.add(index + ":" + message)),
+                "first", "second");
+        AssertionFailedError e = assertThrows(AssertionFailedError.class, softly::assertAll);
+        assertEquals(FailureReport.summary(2, 0, 0), e.getMessage());
+        assertEquals(2, reported.size());
+        assertEquals("1:first", reported.get(0));
+        assertEquals("2:second", reported.get(1));
+    }
+
+    @Test
+    void writerSinkUsesDefaultFormat() {
+        StringWriter writer = new StringWriter();
+        SoftAssertions softly = withFailures(new SoftAssertions.CreateOptions().setReportSink(ReportSink.toWriter(writer)), "first");
+        assertThrows(AssertionFailedError.class, softly::assertAll);
+        assertEquals("1 assertion(s) failed:\n----------------------------------------\nfirst\n", writer.toString());
+    }
+
+    @Test
+    void streamedHeaderCountsReusedAssertions() {
+        StringWriter writer = new StringWriter();
+        SoftAssertionsImpl softly = (SoftAssertionsImpl) withFailures(new SoftAssertions.CreateOptions()
+                .setReportSink(ReportSink.toWriter(writer)), "first");
+        softly.reused("hasStatus", "response", false);
+        softly.reused("hasStatus", "response", false);
+        AssertionFailedError e = assertThrows(AssertionFailedError.class, softly::assertAll);
+        assertEquals(FailureReport.summary(1, 0, 2), e.getMessage());
+        assertTrue(writer.toString().startsWith(FailureReport.header(1, 0, 2) + ":"), writer.toString());
+        assertTrue(writer.toString().startsWith("1 assertion(s) failed, 2 duplicate(s) reused:"), writer.toString());
+    }
+
+    @Test
+    void fileSinkRespectsLimits(@TempDir Path dir) throws IOException {
+        Path report = dir.resolve("report.txt");
+        SoftAssertions softly = withFailures(new SoftAssertions.CreateOptions()
+                        .setReportSink(ReportSink.toFile(report))
+                        .setMaxFailureMessageLength(3)
+                        .setMaxReportLength(6),
+                "first", "second", "third");
+        assertThrows(AssertionFailedError.class, softly::assertAll);
+        String content = new String(Files.readAllBytes(report), StandardCharsets.UTF_8);
+        assertTrue(content.contains("fir... (2 more characters)"), content);
+        assertFalse(content.contains("sec"), content);
+        assertTrue(content.contains("... 2 more failure(s) not shown"), content);
+    }
+
+    @Test
+    void groupsAreReportedUnderTheirName() {
+        SoftAssertions softly = withFailures(new SoftAssertions.CreateOptions(), "top");
+        softly.group("header", header -> ((SoftAssertionsImpl) header).results.add(new AssertionFailedError("logo")));
+        softly.group("empty", empty -> {
+        });
+        softly.group("checkout", checkout -> {
+            ((SoftAssertionsImpl) checkout).results.add(new AssertionFailedError("total\nline two"));
+            checkout.group("payment", payment -> ((SoftAssertionsImpl) payment).results.add(new AssertionFailedError("card")));
+        });
+
+        AssertionFailedError e = assertThrows(AssertionFailedError.class, softly::assertAll);
+        assertEquals("4 assertion(s) failed:\n" +
+                "----------------------------------------\ntop\n" +
+                "----------------------------------------\nheader: 1 assertion(s) failed:\n" +
+                "    ----------------------------------------\n    logo\n" +
+                "----------------------------------------\ncheckout: 2 assertion(s) failed:\n" +
+                "    ----------------------------------------\n    total\n    line two\n" +
+                "    ----------------------------------------\n    payment: 1 assertion(s) failed:\n" +
+                "        ----------------------------------------\n        card", e.getMessage());
+    }
+
+    @Test
+    void sinkReceivesGroupPaths() {
+        List<String> reported = new ArrayList<>();
+        SoftAssertions softly = withFailures(new SoftAssertions.CreateOptions().setReportSink((index, message) -> reported.add(index + ":" + message)),
+                "top");
+        softly.group("checkout", checkout -> checkout.group("payment",
+                payment -> ((SoftAssertionsImpl) payment).results.add(new AssertionFailedError("card"))));
+
+        AssertionFailedError e = assertThrows(AssertionFailedError.class, softly::assertAll);
+        assertEquals(FailureReport.summary(2, 0, 0), e.getMessage());
+        assertEquals(Arrays.asList("1:top", "2:checkout > payment: card"), reported);
+    }
+}
@@ -0,0 +1,117 @@
+package io.github.uchagani.playwright.assertions;
+
+import com.microsoft.playwright.Page;
+import com.microsoft.playwright.PlaywrightException;
+import com.microsoft.playwright.assertions.LocatorAssertions;
+import com.microsoft.playwright.options.AriaRole;
+import io.github.uchagani.jp.UseBrowserConfig;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.opentest4j.AssertionFailedError;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.regex.Pattern;
+
+import static io.github.uchagani.playwright.assertions.Utils.assertFailureCount;
+import static org.junit.jupiter.api.Assertions.*;
+
+@UseBrowserConfig(DefaultBrowserConfig.class)
+public class TestSoftAssertionsSnapshot {
+    private Page page;
+
+    @BeforeEach
+    void beforeEach(Page page) {
+        this.page = page;
+        page.setContent("<form id=\"login\" class=\"card wide\">"
+                + "<input name=\"user\" value=\"alice\">"
+                + "<span class=\"hint\" style=\"display: inline-block\">  Enter   your name </span>"
+                + "</form>"
+                + "<ul><li>One</li><li>Two</li><li>Three</li></ul>");
+    }
+
+    @Test
+    void answersAssertionsFromTheSnapshot() {
+        SoftAssertions softly = SoftAssertions.create();
+        SnapshotAssertions snapshot = softly.snapshot(page);
+        snapshot.assertThat(page.locator("#login .hint")).hasText("Enter your name");
+        snapshot.assertThat(page.locator("#login .hint")).hasText(Pattern.compile("your"));
+        snapshot.assertThat(page.locator("#login")).hasClass("card wide");
+        snapshot.assertThat(page.locator("#login")).hasClass(Pattern.compile("wide"));
+        snapshot.assertThat(page.locator("input")).hasAttribute("name", "user");
+        snapshot.assertThat(page.locator("input")).hasValue("alice");
+        snapshot.assertThat(page.locator(".hint")).hasCSS("display", "inline-block");
+        snapshot.assertThat(page.locator("li")).hasCount(3);
+        snapshot.assertThat(page.locator("li")).not().hasCount(2);
+        snapshot.assertThat(page.locator("input")).not().hasValue("bob");
+        softly.assertAll();
+    }
+
+    @Test
+    void doesNotSeeChangesMadeAfterTheSnapshot() {
+        SoftAssertions softly = SoftAssertions.create();
+        SnapshotAssertions snapshot = softly.snapshot(page);
+        page.evaluate("document.querySelector('input').value = 'bob'");
+        snapshot.assertThat(page.locator("input")).hasValue("alice");
+        softly.assertAll();
+    }
+
+    @Test
+    void capturesFailures() {
+        SoftAssertions softly = SoftAssertions.create();
+        SnapshotAssertions snapshot = softly.snapshot(page);
+        snapshot.assertThat(page.locator(".hint")).hasText("Enter your email");
+        snapshot.assertThat(page.locator("li")).hasCount(4);
+        snapshot.assertThat(page.locator("input")).not().hasAttribute("name", "user");
+
+        AssertionFailedError e = assertThrows(AssertionFailedError.class, softly::assertAll);
+        assertTrue(e.getMessage().contains(
+                "Locator expected to have text: Enter your email\nReceived: Enter your name"), e.getMessage());
+        assertTrue(e.getMessage().contains("Locator expected to have count: 4\nReceived: 3"), e.getMessage());
+        assertTrue(e.getMessage().contains("Locator expected not to have attribute 'name': user"), e.getMessage());
+        assertFailureCount(softly, 3);
+    }
+
+    @Test
+    void fallsBackToThePageForOtherAssertions() {
+        List<AssertionRecord> records = new ArrayList<>();
+        SoftAssertions softly = SoftAssertions.create(new SoftAssertions.CreateOptions()
+                .setListeners(Collections.singletonList(records::add)));
+        SnapshotAssertions snapshot = softly.snapshot(page);
+        snapshot.assertThat(page.getByText("Three")).hasCount(1);
+        snapshot.assertThat(page.locator("li")).hasText(new String[]{"One", "Two", "Three"});
+        snapshot.assertThat(page.locator("li")).hasText("One",
+                new LocatorAssertions.HasTextOptions().setTimeout(500));
+        snapshot.assertThat(page.locator(".hint")).isVisible();
+
+        assertThrows(AssertionFailedError.class, softly::assertAll);
+        assertFailureCount(softly, 1);
+        assertEquals(4, records.size());
+    }
+
+    @Test
+    void reportsTheShareOfAssertionsAnsweredFromTheSnapshot() {
+        page.setContent("<button data-testid=\"save\">Save</button><p>Saved <b>today</b></p>");
+        SoftAssertions softly = SoftAssertions.create();
+        SnapshotAssertions snapshot = softly.snapshot(page);
+        snapshot.assertThat(page.getByTestId("save")).hasText("Save");
+        snapshot.assertThat(page.getByText("saved")).hasText("Saved today");
+        snapshot.assertThat(page.locator("p").getByText("today")).hasCount(1);
+        snapshot.assertThat(page.getByRole(AriaRole.BUTTON)).hasText("Save");
+        softly.assertAll();
+
+        assertEquals(3, snapshot.localHits());
+        assertEquals(1, snapshot.liveFallbacks());
+        assertEquals(0.75, snapshot.localHitRatio());
+        assertEquals(Collections.singletonMap("internal:role=button", 1), snapshot.liveFallbacksBySelector());
+    }
+
+    @Test
+    void failsWhenThePageKeepsChanging() {
+        page.evaluate("setInterval(() => document.body.dataset.tick = Date.now(), 10)");
+        SoftAssertions softly = SoftAssertions.create();
+        assertThrows(PlaywrightException.class,
+                () -> softly.snapshot(page, new SoftAssertions.SnapshotOptions().setTimeout(500)));
+    }
+}
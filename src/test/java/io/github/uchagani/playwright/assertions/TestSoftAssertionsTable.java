@@ -0,0 +1,83 @@
+package io.github.uchagani.playwright.assertions;
+
+import com.microsoft.playwright.Locator;
+import com.microsoft.playwright.Page;
+import io.github.uchagani.jp.UseBrowserConfig;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.opentest4j.AssertionFailedError;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static io.github.uchagani.playwright.assertions.Utils.assertFailureCount;
+import static org.junit.jupiter.api.Assertions.*;
+
+@UseBrowserConfig(DefaultBrowserConfig.class)
+public class TestSoftAssertionsTable {
+    private static final TableAssertions.HasCellTextsOptions SHORT = new TableAssertions.HasCellTextsOptions().setTimeout(500);
+    private Page page;
+    private Locator rows;
+
+    @BeforeEach
+    void beforeEach(Page page) {
+        this.page = page;
+        page.setContent("<table>"
+                + "<tr><th>Name</th><th>Age</th></tr>"
+                + "<tr><td>Alice</td><td> 30 </td></tr>"
+                + "<tr><td>Bob</td><td>25</td></tr>"
+                + "</table>");
+        rows = page.locator("tr");
+    }
+
+    @Test
+    void passesWhenAllCellsMatch() {
+        SoftAssertions softly = SoftAssertions.create();
+        softly.assertThatTable(rows).hasCellTexts(Arrays.asList(
+                Arrays.asList("Name", "Age"),
+                Arrays.asList("Alice", "30"),
+                Arrays.asList("Bob", "25")));
+        softly.assertAll();
+    }
+
+    @Test
+    void recordsOneFailurePerMismatchingCell() {
+        SoftAssertions softly = SoftAssertions.create();
+        softly.assertThatTable(rows).hasCellTexts(Arrays.asList(
+                Arrays.asList("Name", "Age"),
+                Arrays.asList("Alice", "31"),
+                Arrays.asList("Rob", "26")), SHORT);
+
+        AssertionFailedError e = assertThrows(AssertionFailedError.class, softly::assertAll);
+        assertTrue(e.getMessage().contains("Cell [row 1, column 1] of tr: expected \"31\" but was \"30\""), e.getMessage());
+        assertTrue(e.getMessage().contains("Cell [row 2, column 0] of tr: expected \"Rob\" but was \"Bob\""), e.getMessage());
+        assertFailureCount(softly, 3);
+    }
+
+    @Test
+    void reportsMissingRowsAndCells() {
+        List<List<String>> expected = Arrays.asList(
+                Arrays.asList("Name", "Age", "City"),
+                Arrays.asList("Alice", "30"),
+                Arrays.asList("Bob", "25"),
+                Arrays.asList("Carol", "40"));
+        SoftAssertions softly = SoftAssertions.create();
+        softly.assertThatTable(rows).hasCellTexts(expected, SHORT);
+
+        AssertionFailedError e = assertThrows(AssertionFailedError.class, softly::assertAll);
+        assertTrue(e.getMessage().contains("Expected 4 rows but found 3 matching tr"), e.getMessage());
+        assertTrue(e.getMessage().contains("Expected 3 cells but found 2 in row 0 of tr"), e.getMessage());
+        assertFailureCount(softly, 2);
+    }
+
+    @Test
+    void retriesUntilTableMatches() {
+        page.evaluate("setTimeout(() => document.querySelector('tr:last-child td').textContent = 'Carol', 300)");
+        SoftAssertions softly = SoftAssertions.create();
+        softly.assertThatTable(rows).hasCellTexts(Arrays.asList(
+                Arrays.asList("Name", "Age"),
+                Arrays.asList("Alice", "30"),
+                Arrays.asList("Carol", "25")));
+        softly.assertAll();
+    }
+}
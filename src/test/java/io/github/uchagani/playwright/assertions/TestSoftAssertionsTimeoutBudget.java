@@ -0,0 +1,84 @@
+package io.github.uchagani.playwright.assertions;
+
+import com.microsoft.playwright.Page;
+import com.microsoft.playwright.assertions.LocatorAssertions;
+import io.github.uchagani.jp.UseBrowserConfig;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.opentest4j.AssertionFailedError;
+
+import static io.github.uchagani.playwright.assertions.Utils.assertFailureCount;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@UseBrowserConfig(DefaultBrowserConfig.class)
+public class TestSoftAssertionsTimeoutBudget {
+    private Page page;
+
+    @BeforeEach
+    void beforeEach(Page page) {
+        this.page = page;
+    }
+
+    @Test
+    void failuresShareTheBudget() {
+        page.setContent("<div id=node>Text content</div>");
+        SoftAssertions softly = SoftAssertions.create(new SoftAssertions.CreateOptions().setTimeoutBudget(1_000));
+
+        long start = System.currentTimeMillis();
+        for (int i = 0; i < 5; i++) {
+            softly.assertThat(page.locator("#missing-" + i)).isVisible();
+        }
+        long elapsed = System.currentTimeMillis() - start;
+
+        assertTrue(elapsed < 4_000, "Assertions took " + elapsed + "ms");
+        assertThrows(AssertionFailedError.class, softly::assertAll);
+        assertFailureCount(softly, 5);
+    }
+
+    @Test
+    void explicitTimeoutIsCappedByBudget() {
+        page.setContent("<div id=node>Text content</div>");
+        SoftAssertions softly = SoftAssertions.create(new SoftAssertions.CreateOptions().setTimeoutBudget(500));
+
+        long start = System.currentTimeMillis();
+        softly.assertThat(page.locator("#node")).hasText("foo", new LocatorAssertions.HasTextOptions().setTimeout(10_000));
+        long elapsed = System.currentTimeMillis() - start;
+
+        assertTrue(elapsed < 5_000, "Assertion took " + elapsed + "ms");
+        AssertionFailedError e = assertThrows(AssertionFailedError.class, softly::assertAll);
+        assertTrue(e.getMessage().contains("Locator expected to have text: foo"), e.getMessage());
+        assertFailureCount(softly, 1);
+    }
+
+    @Test
+    void groupsDrawFromTheParentBudget() {
+        page.setContent("<div id=node>Text content</div>");
+        SoftAssertions softly = SoftAssertions.create(new SoftAssertions.CreateOptions().setTimeoutBudget(1_000));
+
+        long start = System.currentTimeMillis();
+        softly.group("slow", new SoftAssertions.GroupOptions().setTimeoutBudget(10_000), slow ->
+                slow.assertThat(page.locator("#missing")).isVisible(new LocatorAssertions.IsVisibleOptions()
+                        .setTimeout(5_000)));
+        long group = System.currentTimeMillis() - start;
+        softly.assertThat(page.locator("#node")).hasText("foo", new LocatorAssertions.HasTextOptions().setTimeout(5_000));
+        long elapsed = System.currentTimeMillis() - start;
+
+        assertTrue(group < 3_000, "Group took " + group + "ms");
+        assertTrue(elapsed - group < 1_000, "Assertion after the group took " + (elapsed - group) + "ms");
+        AssertionFailedError e = assertThrows(AssertionFailedError.class, softly::assertAll);
+        assertTrue(e.getMessage().startsWith("2 assertion(s) failed:"), e.getMessage());
+        assertFailureCount(softly, 1);
+    }
+
+    @Test
+    void passingAssertionsWithinBudget() {
+        page.setContent("<div id=node>Text content</div>");
+        SoftAssertions softly = SoftAssertions.create(new SoftAssertions.CreateOptions().setTimeoutBudget(5_000));
+        softly.assertThat(page.locator("#node")).hasText("Text content");
+        softly.assertThat(page.locator("#node")).isVisible();
+        softly.assertThat(page.locator("#missing")).not().isVisible();
+        softly.assertAll();
+        assertFailureCount(softly, 0);
+    }
+}
@@ -1,15 +1,15 @@
 package io.github.uchagani.playwright.assertions;
 
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
-import java.util.List;
 import java.util.Map;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
 public class Utils {
     static void assertFailureCount(SoftAssertions softAssertions, int expectedCount) {
-        List<Throwable> results = ((SoftAssertionsImpl) softAssertions).results;
+        Collection<Throwable> results = ((SoftAssertionsImpl) softAssertions).results;
         assertEquals(results.size(), expectedCount);
     }
 